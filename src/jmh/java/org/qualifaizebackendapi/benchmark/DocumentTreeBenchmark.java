@@ -0,0 +1,70 @@
+package org.qualifaizebackendapi.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.qualifaizebackendapi.DTO.TableOfContentsEntryDTO;
+import org.qualifaizebackendapi.fixtures.SyntheticData;
+import org.qualifaizebackendapi.model.Document;
+import org.qualifaizebackendapi.model.Subsection;
+import org.qualifaizebackendapi.repository.PdfRepository;
+import org.qualifaizebackendapi.service.impl.PdfServiceImpl;
+import org.qualifaizebackendapi.utils.TableOfContentsRenderer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Work done on a document's subsection tree: rebuilding the hierarchy from the flat rows when a document
+ * is loaded, and rendering the table of contents from its entries. Section content is looked up by title
+ * in the database, so there is no in-memory search to measure.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentTreeBenchmark {
+
+    private static final int FAN_OUT = 4;
+    private static final int DEPTH = 3;
+
+    // Each root section has 4 subsections with 4 subsections each: 21, 105 and 420 sections in total
+    @Param({"1", "5", "20"})
+    public int rootSections;
+
+    private PdfServiceImpl pdfService;
+    private Document document;
+    private List<TableOfContentsEntryDTO> tableOfContentsEntries;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        document = SyntheticData.document(random, SyntheticData.user(random));
+        List<Subsection> subsections = SyntheticData.subsections(random, document, rootSections, FAN_OUT, DEPTH);
+        tableOfContentsEntries = SyntheticData.tableOfContentsEntries(subsections);
+
+        // Each lookup returns the flat rows again, as a fresh persistence context would
+        PdfRepository pdfRepository = Stubs.repository(PdfRepository.class, Map.of(
+                "findActiveById", args -> {
+                    Document loaded = new Document();
+                    loaded.setId(document.getId());
+                    loaded.setSubsections(subsections);
+                    return Optional.of(loaded);
+                }));
+
+        pdfService = new PdfServiceImpl(pdfRepository, null, null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public Document buildSubsectionsHierarchy() {
+        return pdfService.findDocumentByIdOrThrow(document.getId());
+    }
+
+    @Benchmark
+    public String renderTableOfContents() {
+        return TableOfContentsRenderer.render(tableOfContentsEntries);
+    }
+}
@@ -0,0 +1,67 @@
+package org.qualifaizebackendapi.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.qualifaizebackendapi.DTO.QuestionDetailsDTO;
+import org.qualifaizebackendapi.fixtures.LegacyInterviewProgressCalculator;
+import org.qualifaizebackendapi.fixtures.SyntheticData;
+import org.qualifaizebackendapi.model.InterviewPerformanceStats;
+import org.qualifaizebackendapi.utils.InterviewProgressCalculator;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single-pass progress calculator with the stream-based implementation it replaced.
+ * Their equivalence is checked by InterviewProgressCalculatorTest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InterviewProgressCalculatorBenchmark {
+
+    private static final int HISTORIES = 1024;
+
+    @Param({"5", "10", "25"})
+    public int questionCount;
+
+    private List<QuestionDetailsDTO>[] histories;
+    private InterviewPerformanceStats[] aggregates;
+    private int next;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        Random random = new Random(42);
+        histories = new List[HISTORIES];
+        aggregates = new InterviewPerformanceStats[HISTORIES];
+        for (int i = 0; i < HISTORIES; i++) {
+            histories[i] = SyntheticData.answeredQuestions(random, questionCount);
+            aggregates[i] = InterviewPerformanceStats.from(histories[i]);
+        }
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (HISTORIES - 1);
+        return next;
+    }
+
+    @Benchmark
+    public int legacyStreams() {
+        return LegacyInterviewProgressCalculator.calculateProgress(histories[nextIndex()]);
+    }
+
+    @Benchmark
+    public int singlePass() {
+        return InterviewProgressCalculator.calculateProgress(histories[nextIndex()]);
+    }
+
+    @Benchmark
+    public int fromAggregate() {
+        return InterviewProgressCalculator.calculateProgress(aggregates[nextIndex()]);
+    }
+
+}
@@ -0,0 +1,81 @@
+package org.qualifaizebackendapi.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.qualifaizebackendapi.fixtures.SyntheticData;
+import org.qualifaizebackendapi.model.User;
+import org.qualifaizebackendapi.security.JwtService;
+import org.qualifaizebackendapi.security.QualifAIzeUserDetails;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token work done by the authentication filter on every request, and token issuing at login.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private JwtService uncachedJwtService;
+    private QualifAIzeUserDetails userDetails;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        byte[] secret = new byte[32];
+        random.nextBytes(secret);
+
+        jwtService = new JwtService(new SimpleMeterRegistry(), Base64.getEncoder().encodeToString(secret),
+                Duration.ofSeconds(60), 10_000);
+        uncachedJwtService = new JwtService(new SimpleMeterRegistry(), Base64.getEncoder().encodeToString(secret),
+                Duration.ZERO, 10_000);
+
+        User user = SyntheticData.user(random);
+        userDetails = new QualifAIzeUserDetails(user);
+        token = jwtService.generateToken(user.getId(), user.getUsername(), user.getRoles(), user.getTokenVersion());
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(userDetails.getId(), userDetails.getUsername(), userDetails.getRoles(),
+                userDetails.getTokenVersion());
+    }
+
+    @Benchmark
+    public String extractUserName() {
+        return jwtService.extractUserName(token);
+    }
+
+    /**
+     * The filter's full check of a token it has seen recently
+     */
+    @Benchmark
+    public String authenticateRequest() {
+        return jwtService.verify(token).getSubject();
+    }
+
+    /**
+     * The principal the filter builds from the claims of a recently seen token
+     */
+    @Benchmark
+    public QualifAIzeUserDetails authenticateRequestFromClaims() {
+        return jwtService.toUserDetails(jwtService.verify(token));
+    }
+
+    /**
+     * The filter's full check of a token seen for the first time, including signature verification
+     */
+    @Benchmark
+    public String authenticateRequestUncached() {
+        return uncachedJwtService.verify(token).getSubject();
+    }
+}
@@ -0,0 +1,92 @@
+package org.qualifaizebackendapi.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.qualifaizebackendapi.DTO.response.interview.AssignedInterviewResponse;
+import org.qualifaizebackendapi.DTO.response.interview.InterviewDetailsResponse;
+import org.qualifaizebackendapi.DTO.response.pdf.UploadedPdfResponse;
+import org.qualifaizebackendapi.DTO.response.user.UserDetailsResponse;
+import org.qualifaizebackendapi.fixtures.SyntheticData;
+import org.qualifaizebackendapi.mapper.InterviewMapperImpl;
+import org.qualifaizebackendapi.mapper.PdfMapperImpl;
+import org.qualifaizebackendapi.mapper.QuestionMapperImpl;
+import org.qualifaizebackendapi.mapper.UserMapperImpl;
+import org.qualifaizebackendapi.model.Document;
+import org.qualifaizebackendapi.model.Interview;
+import org.qualifaizebackendapi.model.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The MapStruct list mappings behind the listing endpoints, on already loaded entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private static final int QUESTIONS_PER_INTERVIEW = 10;
+
+    @Param({"10", "100", "1000"})
+    public int rowCount;
+
+    private InterviewMapperImpl interviewMapper;
+    private PdfMapperImpl pdfMapper;
+    private UserMapperImpl userMapper;
+
+    private List<Interview> interviews;
+    private List<Document> documents;
+    private List<User> users;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userMapper = new UserMapperImpl();
+        QuestionMapperImpl questionMapper = new QuestionMapperImpl();
+
+        interviewMapper = new InterviewMapperImpl();
+        Stubs.inject(interviewMapper, "questionMapper", questionMapper);
+        Stubs.inject(interviewMapper, "userMapper", userMapper);
+
+        pdfMapper = new PdfMapperImpl();
+        Stubs.inject(pdfMapper, "userMapper", userMapper);
+
+        Random random = new Random(42);
+        users = new ArrayList<>(rowCount);
+        documents = new ArrayList<>(rowCount);
+        interviews = new ArrayList<>(rowCount);
+
+        for (int i = 0; i < rowCount; i++) {
+            User user = SyntheticData.user(random);
+            Document document = SyntheticData.document(random, user);
+            users.add(user);
+            documents.add(document);
+            interviews.add(SyntheticData.completedInterview(random, document, user, SyntheticData.user(random),
+                    QUESTIONS_PER_INTERVIEW));
+        }
+    }
+
+    @Benchmark
+    public List<InterviewDetailsResponse> interviewDetails() {
+        return interviewMapper.toInterviewDetailsResponses(interviews);
+    }
+
+    @Benchmark
+    public List<AssignedInterviewResponse> assignedInterviews() {
+        return interviewMapper.toAssignedInterviewResponses(interviews);
+    }
+
+    @Benchmark
+    public List<UploadedPdfResponse> documents() {
+        return pdfMapper.toUploadedPdfResponseList(documents);
+    }
+
+    @Benchmark
+    public List<UserDetailsResponse> users() {
+        return userMapper.toUserDetailsResponseList(users);
+    }
+}
@@ -0,0 +1,131 @@
+package org.qualifaizebackendapi.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.qualifaizebackendapi.DTO.QuestionDetailsDTO;
+import org.qualifaizebackendapi.fixtures.LegacyPreviousQuestionsAnalysis;
+import org.qualifaizebackendapi.fixtures.SyntheticData;
+import org.qualifaizebackendapi.model.InterviewPerformanceStats;
+import org.qualifaizebackendapi.model.enums.PromptContextMode;
+import org.qualifaizebackendapi.repository.InterviewRepository;
+import org.qualifaizebackendapi.repository.QuestionRepository;
+import org.qualifaizebackendapi.service.impl.PromptContextBuilderImpl;
+import org.qualifaizebackendapi.service.impl.QuestionHistoryCompressor;
+import org.qualifaizebackendapi.service.impl.QuestionServiceImpl;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the previous-questions analysis that is sent with every question generation prompt, with the
+ * interview's stored performance aggregate and with the fallback that rebuilds it from the answers, and
+ * compares the prompt context builder with the String.format version it replaced. That the full-mode text
+ * matches the previous output is checked by PromptContextBuilderImplTest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PreviousQuestionsAnalysisBenchmark {
+
+    private static final int INTERVIEWS = 256;
+    private static final int VERBATIM_QUESTIONS = 5;
+    private static final int COMPACT_HISTORY_TOKEN_BUDGET = 400;
+
+    @Param({"5", "10", "25"})
+    public int questionCount;
+
+    private PromptContextBuilderImpl fullBuilder;
+    private PromptContextBuilderImpl compactBuilder;
+    private QuestionServiceImpl withStoredAggregate;
+    private QuestionServiceImpl withoutStoredAggregate;
+    private UUID[] interviewIds;
+    private List<QuestionDetailsDTO>[] histories;
+    private InterviewPerformanceStats[] aggregates;
+    private int next;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        QuestionHistoryCompressor compressor = new QuestionHistoryCompressor(
+                new JTokkitTokenCountEstimator(), new SimpleMeterRegistry(), VERBATIM_QUESTIONS,
+                COMPACT_HISTORY_TOKEN_BUDGET, 20_000);
+        fullBuilder = new PromptContextBuilderImpl(compressor, PromptContextMode.FULL);
+        compactBuilder = new PromptContextBuilderImpl(compressor, PromptContextMode.COMPACT);
+
+        Random random = new Random(42);
+        Map<UUID, List<QuestionDetailsDTO>> questionsByInterview = new HashMap<>();
+        Map<UUID, InterviewPerformanceStats> statsByInterview = new HashMap<>();
+        interviewIds = new UUID[INTERVIEWS];
+        histories = new List[INTERVIEWS];
+        aggregates = new InterviewPerformanceStats[INTERVIEWS];
+
+        for (int i = 0; i < INTERVIEWS; i++) {
+            UUID interviewId = new UUID(random.nextLong(), random.nextLong());
+            List<QuestionDetailsDTO> questions = SyntheticData.answeredQuestions(random, questionCount);
+            interviewIds[i] = interviewId;
+            histories[i] = questions;
+            aggregates[i] = InterviewPerformanceStats.from(questions);
+            questionsByInterview.put(interviewId, questions);
+            statsByInterview.put(interviewId, aggregates[i]);
+        }
+
+        QuestionRepository questionRepository = Stubs.repository(QuestionRepository.class, Map.of(
+                "findQuestionsDetailsByInterviewId", args -> questionsByInterview.get((UUID) args[0])));
+
+        withStoredAggregate = questionService(questionRepository, Stubs.repository(InterviewRepository.class, Map.of(
+                "findPerformanceStatsById", args -> Optional.ofNullable(statsByInterview.get((UUID) args[0])))));
+        withoutStoredAggregate = questionService(questionRepository, Stubs.repository(InterviewRepository.class, Map.of(
+                "findPerformanceStatsById", args -> Optional.empty())));
+    }
+
+    private QuestionServiceImpl questionService(QuestionRepository questionRepository,
+                                                InterviewRepository interviewRepository) {
+        return new QuestionServiceImpl(questionRepository, interviewRepository, null, null, null, fullBuilder);
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (INTERVIEWS - 1);
+        return next;
+    }
+
+    private UUID nextInterviewId() {
+        return interviewIds[nextIndex()];
+    }
+
+    @Benchmark
+    public String storedAggregate() {
+        return withStoredAggregate.previousQuestionsAnalysisText(nextInterviewId());
+    }
+
+    @Benchmark
+    public String rebuiltAggregate() {
+        return withoutStoredAggregate.previousQuestionsAnalysisText(nextInterviewId());
+    }
+
+    @Benchmark
+    public String legacyFormat() {
+        int index = nextIndex();
+        return LegacyPreviousQuestionsAnalysis.previousQuestionsAnalysisText(histories[index], aggregates[index]);
+    }
+
+    @Benchmark
+    public String fullBuilder() {
+        int index = nextIndex();
+        return fullBuilder.buildPreviousQuestionsAnalysis(histories[index], aggregates[index]);
+    }
+
+    @Benchmark
+    public String compactBuilder() {
+        int index = nextIndex();
+        return compactBuilder.buildPreviousQuestionsAnalysis(histories[index], aggregates[index]);
+    }
+}
@@ -0,0 +1,50 @@
+package org.qualifaizebackendapi.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Wires services outside of Spring so benchmarks measure the in-memory work and not the database.
+ */
+final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * An implementation of a repository interface that answers only the given methods, by name.
+     * Any other call fails so a benchmark cannot silently measure an unexpected code path.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T repository(Class<T> repositoryType, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    Function<Object[], Object> answer = answers.get(method.getName());
+                    if (answer != null) {
+                        return answer.apply(args);
+                    }
+                    return switch (method.getName()) {
+                        case "toString" -> repositoryType.getSimpleName() + " stub";
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        default -> throw new UnsupportedOperationException(
+                                repositoryType.getSimpleName() + "." + method.getName() + " is not stubbed");
+                    };
+                });
+    }
+
+    /**
+     * Sets a field that Spring would inject, such as {@code @Value} properties or MapStruct's {@code @Autowired} mappers.
+     */
+    static void inject(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not inject " + fieldName + " into " + target.getClass().getName(), e);
+        }
+    }
+}
@@ -17,12 +17,14 @@ public class QuestionDetailsDTO {
     private String submittedAnswer;
     private Long answerTimeInMillis;
     private Difficulty difficulty;
+    private String sectionTitle;
 
-    public QuestionDetailsDTO(String questionText, String correctOption, String submittedAnswer, OffsetDateTime answerCreatedAt, OffsetDateTime answerAnsweredAt, Difficulty difficulty) {
+    public QuestionDetailsDTO(String questionText, String correctOption, String submittedAnswer, OffsetDateTime answerCreatedAt, OffsetDateTime answerAnsweredAt, Difficulty difficulty, String sectionTitle) {
         this.questionText = questionText;
         this.correctOption = correctOption;
         this.submittedAnswer = submittedAnswer;
         this.difficulty = difficulty;
+        this.sectionTitle = sectionTitle;
         this.answerTimeInMillis = Duration.between(answerCreatedAt, answerAnsweredAt).toMillis();
     }
 
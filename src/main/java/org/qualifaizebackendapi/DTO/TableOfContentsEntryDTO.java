@@ -0,0 +1,20 @@
+package org.qualifaizebackendapi.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TableOfContentsEntryDTO {
+    private UUID id;
+    private UUID parentId;
+    private String title;
+    private int level;
+    private int position;
+}
@@ -10,7 +10,9 @@ import org.qualifaizebackendapi.DTO.response.user.UserDetailsOverviewResponse;
 import org.qualifaizebackendapi.model.enums.Difficulty;
 import org.qualifaizebackendapi.model.enums.InterviewStatus;
 
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.UUID;
 
 @Getter
 @Setter
@@ -19,6 +21,9 @@ import java.util.List;
 @Schema(description = "Complete interview details including all questions")
 public class InterviewDetailsResponse {
 
+    @Schema(description = "Interview ID", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID interviewId;
+
     @Schema(description = "Interview name", example = "Java Spring Boot Technical Interview")
     private String name;
 
@@ -51,4 +56,7 @@ public class InterviewDetailsResponse {
 
     @Schema(description = "Interview duration in seconds (only if completed)")
     private Long durationInSeconds;
+
+    @Schema(description = "When the interview was created")
+    private OffsetDateTime createdAt;
 }
\ No newline at end of file
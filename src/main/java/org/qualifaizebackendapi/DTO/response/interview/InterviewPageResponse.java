@@ -0,0 +1,24 @@
+package org.qualifaizebackendapi.DTO.response.interview;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One page of interviews with their questions, newest first")
+public class InterviewPageResponse {
+
+    @Schema(description = "Interviews of this page")
+    private List<InterviewDetailsResponse> interviews;
+
+    @Schema(description = "Cursor to pass to get the next page, null on the last page",
+            example = "MjAyNS0wMS0xNVQxMDozMDowMFp8MTIzZTQ1NjctZTg5Yi0xMmQzLWE0NTYtNDI2NjE0MTc0MDAw")
+    private String nextCursor;
+}
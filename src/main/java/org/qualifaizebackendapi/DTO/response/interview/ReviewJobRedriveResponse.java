@@ -0,0 +1,18 @@
+package org.qualifaizebackendapi.DTO.response.interview;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Response returned after queueing interview review jobs again")
+public class ReviewJobRedriveResponse {
+
+    @Schema(description = "Number of review jobs queued", example = "12")
+    private int queuedJobs;
+}
@@ -1,5 +1,6 @@
 package org.qualifaizebackendapi.DTO.response.interview.question;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.Setter;
 import org.qualifaizebackendapi.model.enums.Difficulty;
@@ -15,4 +16,7 @@ public class GenerateQuestionDTO {
     private String correctOption; // 'A', 'B', 'C', or 'D'
     private Difficulty difficulty;
     private String explanation;
+
+    @JsonIgnore // Filled in by the application, not part of the LLM response schema
+    private String sectionTitle;
 }
\ No newline at end of file
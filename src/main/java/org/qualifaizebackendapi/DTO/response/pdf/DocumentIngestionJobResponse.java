@@ -0,0 +1,49 @@
+package org.qualifaizebackendapi.DTO.response.pdf;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.qualifaizebackendapi.model.enums.IngestionJobStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Status of an asynchronous PDF ingestion job")
+public class DocumentIngestionJobResponse {
+
+    @Schema(description = "Unique identifier of the ingestion job", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID jobId;
+
+    @Schema(description = "Current status of the job", example = "PROCESSING")
+    private IngestionJobStatus status;
+
+    @Schema(description = "Original name of the uploaded file", example = "spring-boot-reference.pdf")
+    private String fileName;
+
+    @Schema(description = "Secondary file name requested for the document", example = "Spring Boot Reference")
+    private String secondaryFileName;
+
+    @Schema(description = "ID of the created document (only if completed)")
+    private UUID documentId;
+
+    @Schema(description = "Number of subsections persisted so far", example = "1500")
+    private Integer subsectionsProcessed;
+
+    @Schema(description = "Failure reason (only if failed)")
+    private String errorMessage;
+
+    @Schema(description = "When the job was submitted")
+    private OffsetDateTime createdAt;
+
+    @Schema(description = "When a worker started processing the job")
+    private OffsetDateTime startedAt;
+
+    @Schema(description = "When the job completed or failed")
+    private OffsetDateTime finishedAt;
+}
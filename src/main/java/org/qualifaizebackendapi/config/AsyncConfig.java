@@ -1,24 +1,116 @@
 package org.qualifaizebackendapi.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 
 @Configuration
 @EnableAsync
+@EnableScheduling
 public class AsyncConfig {
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    /**
+     * Runs the review jobs claimed by {@code InterviewReviewJobWorker}, which never has more than
+     * {@code interview.review.jobs.workers} of them running, so the pool has exactly that many threads.
+     * Review generation is a long blocking LLM call. In virtual-thread mode each review gets its own
+     * virtual thread and only the number of concurrent reviews is capped, instead of the pool size
+     */
     @Bean(name = "interviewReviewExecutor")
-    public Executor interviewReviewExecutor() {
+    public Executor interviewReviewExecutor(@Value("${interview.review.jobs.workers:4}") int workers) {
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Review-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(workers);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
-        executor.setQueueCapacity(100);
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        // A worker is freed just before its thread returns to the pool, so the next job may briefly queue
+        executor.setQueueCapacity(workers);
         executor.setThreadNamePrefix("Review-");
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Sends review chunks to the admins watching a review, so a slow client never blocks the thread
+     * consuming the LLM output. Each subscriber has at most one send running at a time
+     */
+    @Bean(name = "reviewStreamExecutor")
+    public Executor reviewStreamExecutor() {
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ReviewStream-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("ReviewStream-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor used to generate the next interview question in the background
+     * while the candidate is still answering the current one
+     */
+    @Bean(name = "questionPrefetchExecutor")
+    public Executor questionPrefetchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(10);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("QuestionPrefetch-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Bounded pool for PDF ingestion jobs. Submissions beyond the queue capacity are rejected
+     * so that upload bursts are answered with 429 instead of piling up unbounded work
+     */
+    @Bean(name = "documentIngestionExecutor")
+    public Executor documentIngestionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("Ingestion-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Bounded pool for BCrypt, which is CPU bound. Sized below the core count so login bursts
+     * cannot starve the other endpoints, submissions beyond the queue capacity are rejected with 429
+     */
+    @Bean(name = "passwordHashingExecutor")
+    public Executor passwordHashingExecutor(
+            @Value("${users.password-hashing.threads:0}") int threads,
+            @Value("${users.password-hashing.queue-capacity:100}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("PasswordHashing-");
+        executor.initialize();
+        return executor;
+    }
 }
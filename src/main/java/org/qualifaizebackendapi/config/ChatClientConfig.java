@@ -1,17 +1,25 @@
 package org.qualifaizebackendapi.config;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.qualifaizebackendapi.service.factory.AIClientFactory;
+import org.qualifaizebackendapi.service.factory.LlmGovernor;
 import org.springframework.ai.mistralai.MistralAiChatOptions;
 import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
 
 @Configuration
 public class ChatClientConfig {
 
     @Bean
-    public AIClientFactory aiClientFactory() {
-        return new AIClientFactory(baseOpenAiOptions(), baseMistralOptions());
+    public AIClientFactory aiClientFactory(ClientHttpRequestFactory aiRequestFactory,
+                                           ObservationRegistry observationRegistry,
+                                           LlmGovernor llmGovernor) {
+        return new AIClientFactory(baseOpenAiOptions(), baseMistralOptions(), aiRequestFactory, observationRegistry,
+                llmGovernor);
     }
 
     @Bean
@@ -33,4 +41,13 @@ public class ChatClientConfig {
                 .topP(0.9)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Estimates prompt sizes with the cl100k BPE encoding. Provider tokenizers differ slightly, so budgets
+     * built on it are approximate.
+     */
+    @Bean
+    public TokenCountEstimator tokenCountEstimator() {
+        return new JTokkitTokenCountEstimator();
+    }
+}
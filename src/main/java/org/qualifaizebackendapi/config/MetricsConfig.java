@@ -0,0 +1,24 @@
+package org.qualifaizebackendapi.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    /**
+     * Tags every meter with the active threading mode so that runs with and without
+     * virtual threads can be compared side by side on the same dashboards
+     */
+    @Bean
+    public MeterRegistryCustomizer<MeterRegistry> threadModeMetricsTag() {
+        return registry -> registry.config()
+                .commonTags("thread.mode", virtualThreadsEnabled ? "virtual" : "platform");
+    }
+}
@@ -1,11 +1,21 @@
 package org.qualifaizebackendapi.config;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 import java.time.Duration;
@@ -17,8 +27,20 @@ public class RestClientConfig {
     @Value("${external-services.document-parser-base-url}")
     private String documentParserBaseUrl;
 
+    @Value("${external-services.http-client.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${external-services.http-client.max-connections-per-host:20}")
+    private int maxConnectionsPerHost;
+
+    @Value("${external-services.http-client.ai-read-timeout:60s}")
+    private Duration aiReadTimeout;
+
     private static final int TIMEOUT_MINUTES = 2;
     private static final int CONNECTION_TIMEOUT_SECONDS = 10;
+    private static final int VALIDATE_AFTER_INACTIVITY_SECONDS = 10;
+    private static final int IDLE_CONNECTION_EVICTION_SECONDS = 60;
+    private static final int CONNECTION_TIME_TO_LIVE_MINUTES = 5;
 
     /**
      * RestClient configured specifically for the document parser service
@@ -51,13 +73,63 @@ public class RestClientConfig {
     }
 
     /**
-     * HTTP request factory with 2-minute read timeout and 10-second connection timeout
+     * HTTP request factory with 2-minute read timeout, sharing the pooled connections of the outbound client
      */
     @Bean
     public ClientHttpRequestFactory documentParserRequestFactory() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(Duration.ofSeconds(CONNECTION_TIMEOUT_SECONDS));
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(pooledHttpClient());
         factory.setReadTimeout(Duration.ofMinutes(TIMEOUT_MINUTES));
         return factory;
     }
-}
\ No newline at end of file
+
+    /**
+     * HTTP request factory used by the LLM provider clients, sharing the pooled connections of the outbound client.
+     * The read timeout bounds the silence between two packets rather than the whole response.
+     * It only applies to blocking calls, streamed responses use the providers' WebClient and are
+     * bounded by the same timeout in the LlmGovernor
+     */
+    @Bean
+    public ClientHttpRequestFactory aiRequestFactory() {
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(pooledHttpClient());
+        factory.setReadTimeout(aiReadTimeout);
+        return factory;
+    }
+
+    /**
+     * Single outbound HTTP client for the document parser and the LLM providers. Connections are kept alive
+     * and reused, so repeated calls to the same host skip the TCP and TLS handshakes
+     */
+    @Bean
+    public CloseableHttpClient pooledHttpClient() {
+        return HttpClients.custom()
+                .setConnectionManager(outboundConnectionManager())
+                .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(IDLE_CONNECTION_EVICTION_SECONDS))
+                .build();
+    }
+
+    /**
+     * Connection pool with a per-host limit, so one slow provider cannot take every connection
+     */
+    @Bean
+    public PoolingHttpClientConnectionManager outboundConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerHost)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofSeconds(CONNECTION_TIMEOUT_SECONDS))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(VALIDATE_AFTER_INACTIVITY_SECONDS))
+                        .setTimeToLive(TimeValue.ofMinutes(CONNECTION_TIME_TO_LIVE_MINUTES))
+                        .build())
+                .build();
+    }
+
+    /**
+     * Publishes httpcomponents.httpclient.pool.* metrics for the outbound connection pool
+     */
+    @Bean
+    public MeterBinder outboundConnectionPoolMetrics() {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(outboundConnectionManager(), "outbound");
+    }
+}
@@ -16,14 +16,18 @@ import org.qualifaizebackendapi.DTO.response.interview.AssignedInterviewResponse
 import org.qualifaizebackendapi.DTO.response.interview.ChangeInterviewStatusResponse;
 import org.qualifaizebackendapi.DTO.response.interview.CreateInterviewResponse;
 import org.qualifaizebackendapi.DTO.response.interview.InterviewDetailsResponse;
+import org.qualifaizebackendapi.DTO.response.interview.InterviewPageResponse;
+import org.qualifaizebackendapi.DTO.response.interview.ReviewJobRedriveResponse;
 import org.qualifaizebackendapi.DTO.response.interview.question.QuestionToAsk;
 import org.qualifaizebackendapi.DTO.response.interview.question.SubmitAnswerResponse;
 import org.qualifaizebackendapi.exception.ErrorResponse;
 import org.qualifaizebackendapi.model.enums.InterviewStatus;
 import org.qualifaizebackendapi.service.InterviewService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.UUID;
@@ -133,7 +137,8 @@ public class InterviewController {
             summary = "Get interviews with questions",
             description = "Retrieves interviews with their complete question details. " +
                     "If interviewId is provided, returns specific interview. " +
-                    "Admins see all interviews, regular users see only interviews assigned to them."
+                    "Admins see all interviews, regular users see only interviews assigned to them. " +
+                    "Use /with-questions/page for large listings."
     )
     @GetMapping("/with-questions")
     @ApiResponses({
@@ -182,6 +187,50 @@ public class InterviewController {
         return ResponseEntity.ok(interviews);
     }
 
+    @Operation(
+            summary = "Get a page of interviews with questions",
+            description = "Retrieves interviews with their complete question details one page at a time, newest first. " +
+                    "Pass the returned nextCursor to get the following page. " +
+                    "Admins see all interviews, regular users see only interviews assigned to them."
+    )
+    @GetMapping("/with-questions/page")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Interviews retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = InterviewPageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor or page size",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "User not authenticated",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Insufficient permissions",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<InterviewPageResponse> getInterviewsWithQuestionsPage(
+            @Parameter(description = "Cursor returned with the previous page, omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of interviews per page, at most 100", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Optional status filter", example = "COMPLETED")
+            @RequestParam(required = false) InterviewStatus status
+    ) {
+        log.info("Request to get a page of {} interviews with questions", size);
+
+        InterviewPageResponse page = interviewService.getInterviewsWithQuestionsPage(cursor, size, status);
+
+        return ResponseEntity.ok(page);
+    }
+
     @Operation(
             summary = "Get next interview question",
             description = "Retrieves the next question to ask in the specified interview"
@@ -296,4 +345,108 @@ public class InterviewController {
 
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "Watch the interview review",
+            description = "Streams the AI review of a completed interview as server-sent events while it is generated. " +
+                    "'chunk' events carry the review text as it is generated, starting with everything generated so far, " +
+                    "'complete' carries the final stored review and 'error' is sent when generation failed. " +
+                    "A review that is already stored is sent at once as a single 'complete' event."
+    )
+    @GetMapping(value = "/{interviewId}/review/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Review stream opened",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Interview not found or no review stored or being generated",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Only admins can watch interview reviews",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public SseEmitter streamInterviewReview(
+            @Parameter(description = "ID of the interview whose review to watch", required = true)
+            @PathVariable UUID interviewId
+    ) {
+        log.info("Opening review stream for interview {}", interviewId);
+
+        return interviewService.streamInterviewReview(interviewId);
+    }
+
+    @Operation(
+            summary = "Re-drive interview review jobs",
+            description = "Queues review generation again. Without interviewId, all review jobs that failed after their " +
+                    "last retry are queued again. With interviewId, the review of that completed interview is queued, " +
+                    "unless it is being generated right now."
+    )
+    @PostMapping("/review-jobs/redrive")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Review jobs queued",
+                    content = @Content(schema = @Schema(implementation = ReviewJobRedriveResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Interview is not completed",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Interview not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Only admins can re-drive review jobs",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<ReviewJobRedriveResponse> redriveReviewJobs(
+            @Parameter(description = "Optional ID of a completed interview to review again")
+            @RequestParam(required = false) UUID interviewId
+    ) {
+        log.info("Re-driving review jobs, interview: {}", interviewId);
+
+        ReviewJobRedriveResponse response = interviewService.redriveReviewJobs(interviewId);
+
+        log.info("Queued {} review job(s)", response.getQueuedJobs());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Review all unreviewed interviews",
+            description = "Queues a batch review of every completed interview without a review, e.g. after a provider outage. " +
+                    "Batch reviews run after regular reviews with limited concurrency and within the provider's rate limit."
+    )
+    @PostMapping("/review-jobs/batch")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch review jobs queued",
+                    content = @Content(schema = @Schema(implementation = ReviewJobRedriveResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Only admins can start batch reviews",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<ReviewJobRedriveResponse> queueMissingReviews() {
+        log.info("Queueing batch reviews of unreviewed interviews");
+
+        ReviewJobRedriveResponse response = interviewService.queueMissingReviews();
+
+        log.info("Queued {} batch review job(s)", response.getQueuedJobs());
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -11,6 +11,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import org.qualifaizebackendapi.DTO.response.pdf.DocumentIngestionJobResponse;
 import org.qualifaizebackendapi.DTO.response.pdf.UploadedPdfResponse;
 import org.qualifaizebackendapi.exception.ErrorResponse;
 import org.qualifaizebackendapi.service.PdfService;
@@ -56,6 +57,52 @@ public class PdfController {
     }
 
 
+    @Operation(
+            summary = "Queue a PDF file for ingestion",
+            description = "Uploads one PDF file and returns immediately with a job ID. The document is parsed and saved in the background; poll the job to follow its progress"
+    )
+    @PostMapping(value = "/ingestion-jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "PDF accepted for ingestion",
+                    content = @Content(schema = @Schema(implementation = DocumentIngestionJobResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid file or parameters",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Already saved pdf document",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "429", description = "Ingestion queue is full",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<DocumentIngestionJobResponse> submitIngestionJob(
+            @Parameter(description = "PDF file to upload", required = true, content = @Content(mediaType = "application/pdf"))
+            @RequestParam("file") MultipartFile file,
+
+            @Parameter(description = "Required secondary file name", required = true)
+            @RequestParam(value = "secondary_file_name") String secondaryFileName
+    ) {
+        DocumentIngestionJobResponse response = pdfService.submitIngestionJob(file, secondaryFileName);
+        return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
+    }
+
+
+    @Operation(
+            summary = "Get ingestion job status",
+            description = "Retrieves the status of an ingestion job, including the number of subsections processed so far and the created document ID once it completes."
+    )
+    @GetMapping("/ingestion-jobs/{jobId}")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Job status retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = DocumentIngestionJobResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Job not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<DocumentIngestionJobResponse> getIngestionJob(
+            @Parameter(description = "Unique identifier of the ingestion job", required = true)
+            @PathVariable @NotNull UUID jobId
+    ) {
+        return ResponseEntity.ok(pdfService.getIngestionJob(jobId));
+    }
+
+
     @Operation(
             summary = "List all PDF documents",
             description = "Retrieves a list of all uploaded PDF documents."
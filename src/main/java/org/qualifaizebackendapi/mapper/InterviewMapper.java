@@ -24,6 +24,7 @@ public interface InterviewMapper {
     @Mapping(target = "startTime", ignore = true)
     @Mapping(target = "endTime", ignore = true)
     @Mapping(target = "candidateReview", ignore = true)
+    @Mapping(target = "performanceStats", ignore = true)
     Interview toInterviewFromCreateInterviewRequest(CreateInterviewRequest request, Document document, User createdByUser, User assignedToUser);
 
     @Mapping(target = "interviewId", source = "id")
@@ -42,6 +43,7 @@ public interface InterviewMapper {
         return (firstName + " " + lastName).trim();
     }
 
+    @Mapping(target = "interviewId", source = "id")
     @Mapping(target = "documentTitle", source = "interview.document.secondaryFileName")
     @Mapping(target = "createdBy", source = "createdByUser", qualifiedByName = "toUserDetailsOverviewResponse")
     @Mapping(target = "assignedTo", source = "assignedToUser", qualifiedByName = "toUserDetailsOverviewResponse")
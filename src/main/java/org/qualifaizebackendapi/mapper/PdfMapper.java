@@ -1,8 +1,10 @@
 package org.qualifaizebackendapi.mapper;
 
 import org.mapstruct.*;
+import org.qualifaizebackendapi.DTO.response.pdf.DocumentIngestionJobResponse;
 import org.qualifaizebackendapi.DTO.response.pdf.UploadedPdfResponse;
 import org.qualifaizebackendapi.model.Document;
+import org.qualifaizebackendapi.model.DocumentIngestionJob;
 
 import java.util.List;
 
@@ -18,4 +20,8 @@ public interface PdfMapper {
     @IterableMapping(qualifiedByName = "toUploadedPdfResponse")
     List<UploadedPdfResponse> toUploadedPdfResponseList(List<Document> documents);
 
+    @Mapping(target = "jobId", source = "id")
+    @Mapping(target = "documentId", source = "document.id")
+    DocumentIngestionJobResponse toDocumentIngestionJobResponse(DocumentIngestionJob job);
+
 }
@@ -22,6 +22,7 @@ public interface UserMapper {
     @Mapping(target = "deleted", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "tokenVersion", ignore = true)
     User toUser(UserRegisterRequest userRegisterRequest);
 
     @Mapping(target = "userId", source = "id")
@@ -47,5 +48,6 @@ public interface UserMapper {
     @Mapping(target = "deleted", ignore = true)
     @Mapping(target = "deletedAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "tokenVersion", ignore = true)
     void updateUserFromRequest(UpdateUserDetailsRequest request, @MappingTarget User user);
 }
\ No newline at end of file
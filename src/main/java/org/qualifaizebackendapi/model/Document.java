@@ -35,33 +35,13 @@ public class Document extends SoftDeletable {
     @Column(nullable = false, updatable = false)
     private OffsetDateTime createdAt;
 
+    @Column(name = "table_of_contents", columnDefinition = "TEXT")
+    private String tableOfContents;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "uploaded_by_user_id")
     private User uploadedByUser;
 
     @OneToMany(mappedBy = "document", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Subsection> subsections = new ArrayList<>();
-
-    public String getTableOfContentsText() {
-        StringBuilder sb = new StringBuilder();
-
-        sb.append(super.toString()).append(" ");
-
-        if (subsections == null || subsections.isEmpty()) {
-            sb.append("Document contains no sections");
-        } else {
-            sb.append("Document contains ").append(subsections.size())
-                    .append(" root section").append(subsections.size() > 1 ? "s" : "")
-                    .append(" which are: ");
-
-            for (int i = 0; i < subsections.size(); i++) {
-                if (i > 0) {
-                    sb.append(" and ");
-                }
-                sb.append(subsections.get(i).getSubsectionInfo());
-            }
-        }
-
-        return sb.toString();
-    }
 }
\ No newline at end of file
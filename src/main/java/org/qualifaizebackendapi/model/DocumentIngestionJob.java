@@ -0,0 +1,91 @@
+package org.qualifaizebackendapi.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcType;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.dialect.PostgreSQLEnumJdbcType;
+import org.qualifaizebackendapi.model.enums.IngestionJobStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Setter
+@Table(name = "document_ingestion_job")
+public class DocumentIngestionJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @JdbcType(PostgreSQLEnumJdbcType.class)
+    @Column(nullable = false, columnDefinition = "ingestion_job_status")
+    private IngestionJobStatus status = IngestionJobStatus.QUEUED;
+
+    @NotNull
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @NotNull
+    @Column(name = "secondary_file_name", nullable = false)
+    private String secondaryFileName;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "document_id")
+    private Document document;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "uploaded_by_user_id")
+    private User uploadedByUser;
+
+    @Column(name = "subsections_processed", nullable = false)
+    private int subsectionsProcessed = 0;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "started_at")
+    private OffsetDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private OffsetDateTime finishedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+    public void start() {
+        if (this.status == IngestionJobStatus.QUEUED) {
+            this.status = IngestionJobStatus.PROCESSING;
+            this.startedAt = OffsetDateTime.now();
+        }
+    }
+
+    public void complete(Document document, int subsectionsProcessed) {
+        this.status = IngestionJobStatus.COMPLETED;
+        this.document = document;
+        this.subsectionsProcessed = subsectionsProcessed;
+        this.finishedAt = OffsetDateTime.now();
+    }
+
+    public void fail(String errorMessage) {
+        this.status = IngestionJobStatus.FAILED;
+        this.errorMessage = errorMessage;
+        this.finishedAt = OffsetDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return this.status == IngestionJobStatus.COMPLETED || this.status == IngestionJobStatus.FAILED;
+    }
+}
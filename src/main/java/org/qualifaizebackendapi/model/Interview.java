@@ -7,8 +7,10 @@ import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcType;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.dialect.PostgreSQLEnumJdbcType;
+import org.hibernate.type.SqlTypes;
 import org.qualifaizebackendapi.model.enums.Difficulty;
 import org.qualifaizebackendapi.model.enums.InterviewStatus;
 
@@ -60,6 +62,10 @@ public class Interview {
     @Column(name = "candidate_review", columnDefinition = "TEXT")
     private String candidateReview;
 
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "performance_stats", columnDefinition = "jsonb")
+    private InterviewPerformanceStats performanceStats = new InterviewPerformanceStats();
+
     @NotNull
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "document_id", nullable = false)
@@ -0,0 +1,164 @@
+package org.qualifaizebackendapi.model;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.qualifaizebackendapi.DTO.QuestionDetailsDTO;
+import org.qualifaizebackendapi.model.enums.Difficulty;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Running performance aggregate of an interview, updated once per submitted answer and stored with the
+ * interview as JSON. Progress and prompt statistics are derived from it instead of re-reading every answer.
+ * Derived values are exposed through methods without the get prefix so they are not serialized.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class InterviewPerformanceStats {
+
+    public static final int RECENT_WINDOW_SIZE = 6;
+    public static final long FAST_ANSWER_THRESHOLD_MILLIS = 20000;
+
+    private int answeredCount;
+    private int correctCount;
+
+    private int timedAnswerCount;
+    private long totalAnswerTimeMillis;
+
+    // Compensated (Kahan) sum of answer times in seconds, summed the same way as DoubleStream.average()
+    private double answerTimeSecondsSum;
+    private double answerTimeSecondsCompensation;
+
+    private int correctTimedAnswerCount;
+    private long correctAnswerTimeMillis;
+
+    private int incorrectTimedAnswerCount;
+    private long incorrectAnswerTimeMillis;
+
+    private int fastAnswerCount;
+    private int fastCorrectCount;
+
+    private EnumMap<Difficulty, DifficultyStats> byDifficulty = new EnumMap<>(Difficulty.class);
+
+    // Number of answers per option, A to D
+    private int[] answerCounts = new int[4];
+
+    // Oldest first, at most RECENT_WINDOW_SIZE entries
+    private List<RecentAnswer> recentAnswers = new ArrayList<>();
+
+    private Difficulty lastDifficulty;
+
+    // Titles of the sections that answered questions were generated from
+    private Set<String> coveredSections = new HashSet<>();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class DifficultyStats {
+        private int answeredCount;
+        private int correctCount;
+        private int timedAnswerCount;
+        private long totalAnswerTimeMillis;
+    }
+
+    public record RecentAnswer(boolean correct, Long answerTimeInMillis) {
+    }
+
+    public static InterviewPerformanceStats from(List<QuestionDetailsDTO> answeredQuestions) {
+        InterviewPerformanceStats stats = new InterviewPerformanceStats();
+        if (answeredQuestions != null) {
+            for (QuestionDetailsDTO question : answeredQuestions) {
+                stats.recordAnswer(question.getDifficulty(), question.getSectionTitle(), question.getSubmittedAnswer(),
+                        question.isSubmittedAnswerCorrect(), question.getAnswerTimeInMillis());
+            }
+        }
+        return stats;
+    }
+
+    public void recordAnswer(Difficulty difficulty, String sectionTitle, String submittedAnswer, boolean correct,
+                             Long answerTimeInMillis) {
+        answeredCount++;
+        if (correct) {
+            correctCount++;
+        }
+
+        boolean timed = answerTimeInMillis != null && answerTimeInMillis > 0;
+        if (timed) {
+            timedAnswerCount++;
+            totalAnswerTimeMillis += answerTimeInMillis;
+            addAnswerTimeSeconds(answerTimeInMillis / 1000.0);
+
+            if (correct) {
+                correctTimedAnswerCount++;
+                correctAnswerTimeMillis += answerTimeInMillis;
+            } else {
+                incorrectTimedAnswerCount++;
+                incorrectAnswerTimeMillis += answerTimeInMillis;
+            }
+        }
+
+        if (answerTimeInMillis != null && answerTimeInMillis < FAST_ANSWER_THRESHOLD_MILLIS) {
+            fastAnswerCount++;
+            if (correct) {
+                fastCorrectCount++;
+            }
+        }
+
+        DifficultyStats difficultyStats = byDifficulty.computeIfAbsent(difficulty, d -> new DifficultyStats());
+        difficultyStats.answeredCount++;
+        if (correct) {
+            difficultyStats.correctCount++;
+        }
+        if (timed) {
+            difficultyStats.timedAnswerCount++;
+            difficultyStats.totalAnswerTimeMillis += answerTimeInMillis;
+        }
+
+        int optionIndex = submittedAnswer.toUpperCase().charAt(0) - 'A';
+        if (optionIndex >= 0 && optionIndex < answerCounts.length) {
+            answerCounts[optionIndex]++;
+        }
+
+        recentAnswers.add(new RecentAnswer(correct, answerTimeInMillis));
+        if (recentAnswers.size() > RECENT_WINDOW_SIZE) {
+            recentAnswers.removeFirst();
+        }
+
+        lastDifficulty = difficulty;
+        if (sectionTitle != null && !sectionTitle.isBlank()) {
+            coveredSections.add(sectionTitle);
+        }
+    }
+
+    private void addAnswerTimeSeconds(double seconds) {
+        double compensated = seconds - answerTimeSecondsCompensation;
+        double sum = answerTimeSecondsSum + compensated;
+        answerTimeSecondsCompensation = (sum - answerTimeSecondsSum) - compensated;
+        answerTimeSecondsSum = sum;
+    }
+
+    /**
+     * Average answer time in seconds with the exact rounding of averaging {@code millis / 1000.0} values
+     * through a DoubleStream.
+     */
+    public double compensatedAverageAnswerTimeSeconds() {
+        if (timedAnswerCount == 0) {
+            return 0.0;
+        }
+        return (answerTimeSecondsSum - answerTimeSecondsCompensation) / timedAnswerCount;
+    }
+
+    public double accuracyPercentage() {
+        return answeredCount == 0 ? 0.0 : (double) correctCount / answeredCount * 100;
+    }
+
+    public double averageAnswerTimeSeconds() {
+        return timedAnswerCount == 0 ? 0.0 : (double) totalAnswerTimeMillis / timedAnswerCount / 1000.0;
+    }
+}
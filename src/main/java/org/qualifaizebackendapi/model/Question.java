@@ -67,6 +67,9 @@ public class Question {
     @Column(columnDefinition = "TEXT")
     private String explanation;
 
+    @Column(name = "section_title", columnDefinition = "TEXT")
+    private String sectionTitle;
+
     @NotNull
     @Min(value = 1, message = "Question order must be at least 1")
     @Column(name = "question_order", nullable = false)
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
@@ -37,37 +39,21 @@ public class Subsection {
     @Column(columnDefinition = "TEXT", nullable = false)
     private String content;
 
+    @Column(name = "concatenated_content", columnDefinition = "TEXT")
+    private String concatenatedContent;
+
     @Column(nullable = false)
     private int position;
 
     @Column(nullable = false)
     private int level;
 
+    // Index of the subsection among its siblings in the parser response, preceded by those of its ancestors.
+    // Sorting by it gives document order, even when the parser repeats a position
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "tree_path", columnDefinition = "integer[]", nullable = false)
+    private int[] treePath;
+
     @Column(nullable = false)
     private OffsetDateTime createdAt = OffsetDateTime.now();
-
-    public String getSubsectionInfo(){
-        StringBuilder sb = new StringBuilder();
-
-        sb.append("Section titled '").append(title)
-                .append("' at level ").append(level)
-                .append(" in position ").append(position);
-
-        if (children == null || children.isEmpty()) {
-            sb.append(" with no subsections");
-        } else {
-            sb.append(" containing ").append(children.size())
-                    .append(" subsection").append(children.size() > 1 ? "s" : "")
-                    .append(" which are: ");
-
-            for (int i = 0; i < children.size(); i++) {
-                if (i > 0) {
-                    sb.append(" and ");
-                }
-                sb.append(children.get(i).getSubsectionInfo());
-            }
-        }
-
-        return sb.toString();
-    }
 }
\ No newline at end of file
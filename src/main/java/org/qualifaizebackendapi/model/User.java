@@ -30,6 +30,8 @@ public class User extends SoftDeletable{
     @UpdateTimestamp
     private OffsetDateTime updatedAt;
     private OffsetDateTime birthDate;
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
 
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(
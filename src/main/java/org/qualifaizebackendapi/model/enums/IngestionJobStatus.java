@@ -0,0 +1,8 @@
+package org.qualifaizebackendapi.model.enums;
+
+public enum IngestionJobStatus {
+    QUEUED,
+    PROCESSING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,6 @@
+package org.qualifaizebackendapi.model.enums;
+
+public enum LlmProvider {
+    OPENAI,
+    MISTRAL
+}
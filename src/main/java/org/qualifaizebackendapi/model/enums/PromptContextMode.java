@@ -0,0 +1,6 @@
+package org.qualifaizebackendapi.model.enums;
+
+public enum PromptContextMode {
+    FULL,
+    COMPACT
+}
@@ -0,0 +1,33 @@
+package org.qualifaizebackendapi.repository;
+
+import jakarta.transaction.Transactional;
+import org.qualifaizebackendapi.model.DocumentIngestionJob;
+import org.qualifaizebackendapi.model.enums.IngestionJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface DocumentIngestionJobRepository extends JpaRepository<DocumentIngestionJob, UUID> {
+
+    /**
+     * Commits the progress on its own, so it is visible while the ingestion transaction is still open.
+     */
+    @Modifying
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    @Query("UPDATE DocumentIngestionJob j SET j.subsectionsProcessed = :subsectionsProcessed, j.updatedAt = :updatedAt " +
+            "WHERE j.id = :jobId")
+    int updateProgress(@Param("jobId") UUID jobId,
+                       @Param("subsectionsProcessed") int subsectionsProcessed,
+                       @Param("updatedAt") OffsetDateTime updatedAt);
+
+    List<DocumentIngestionJob> findByStatusInAndUpdatedAtBefore(Collection<IngestionJobStatus> statuses,
+                                                                OffsetDateTime updatedBefore);
+}
@@ -0,0 +1,190 @@
+package org.qualifaizebackendapi.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.qualifaizebackendapi.DTO.response.interview.InterviewDetailsResponse;
+import org.qualifaizebackendapi.DTO.response.interview.question.QuestionDetailsResponse;
+import org.qualifaizebackendapi.DTO.response.user.UserDetailsOverviewResponse;
+import org.qualifaizebackendapi.model.enums.Difficulty;
+import org.qualifaizebackendapi.model.enums.InterviewStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Interview listings read straight into response DTOs, a page of interviews and the questions of
+ * that page in two statements, instead of loading entities and their lazy associations one by one.
+ * Pages are ordered newest first and continued from the (created_at, id) of the last interview, so
+ * deep pages cost the same as the first one.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InterviewListingJdbcRepository {
+
+    private static final String PAGE_SQL = """
+            SELECT i.id, i.name, i.description, i.difficulty, i.status, i.candidate_review,
+                   i.start_time, i.end_time, i.created_at,
+                   d.secondary_file_name,
+                   c.id AS creator_id, c.username AS creator_username,
+                   c.first_name AS creator_first_name, c.last_name AS creator_last_name,
+                   a.id AS assignee_id, a.username AS assignee_username,
+                   a.first_name AS assignee_first_name, a.last_name AS assignee_last_name
+            FROM interview i
+            JOIN document d ON d.id = i.document_id
+            JOIN users c ON c.id = i.created_by_user_id
+            LEFT JOIN users a ON a.id = i.assigned_to_user_id
+            WHERE %s
+            ORDER BY i.created_at DESC, i.id DESC
+            LIMIT ?
+            """;
+
+    private static final String QUESTIONS_SQL = """
+            SELECT interview_id, question_text, difficulty, option_a, option_b, option_c, option_d,
+                   correct_option, question_order, submitted_answer, created_at, answered_at
+            FROM question
+            WHERE interview_id = ANY (?)
+            ORDER BY interview_id, question_order
+            """;
+
+    /**
+     * Position after the last interview of a page, opaque to clients
+     */
+    public record Cursor(OffsetDateTime createdAt, UUID id) {
+
+        public String encode() {
+            String position = createdAt.toInstant() + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * @throws IllegalArgumentException if the cursor was not returned by {@link #encode()}
+         */
+        public static Cursor decode(String cursor) {
+            try {
+                String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+                return new Cursor(Instant.parse(position[0]).atOffset(ZoneOffset.UTC), UUID.fromString(position[1]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+            }
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param assignedToUserId only interviews assigned to this user, or all when null
+     * @param status           only interviews in this status, or all when null
+     * @param after            continues after this position, or starts at the newest interview when null
+     * @return up to {@code limit} interviews with their questions, newest first
+     */
+    public List<InterviewDetailsResponse> findPage(UUID assignedToUserId, InterviewStatus status, Cursor after, int limit) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+
+        if (assignedToUserId != null) {
+            conditions.add("i.assigned_to_user_id = ?");
+            params.add(assignedToUserId);
+        }
+        if (status != null) {
+            conditions.add("i.status = ?::interview_status");
+            params.add(status.name());
+        }
+        if (after != null) {
+            conditions.add("(i.created_at, i.id) < (?, ?)");
+            params.add(after.createdAt());
+            params.add(after.id());
+        }
+        params.add(limit);
+
+        String where = conditions.isEmpty() ? "TRUE" : String.join(" AND ", conditions);
+        List<InterviewRow> rows = jdbcTemplate.query(PAGE_SQL.formatted(where), this::toInterviewRow, params.toArray());
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, List<QuestionDetailsResponse>> questions = findQuestions(rows.stream().map(InterviewRow::id).toList());
+        return rows.stream()
+                .map(row -> row.toResponse(questions.getOrDefault(row.id(), new ArrayList<>())))
+                .toList();
+    }
+
+    private Map<UUID, List<QuestionDetailsResponse>> findQuestions(List<UUID> interviewIds) {
+        Map<UUID, List<QuestionDetailsResponse>> questions = new HashMap<>();
+        jdbcTemplate.query(QUESTIONS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", interviewIds.toArray())),
+                rs -> {
+                    questions.computeIfAbsent(rs.getObject("interview_id", UUID.class), id -> new ArrayList<>())
+                            .add(toQuestion(rs));
+                });
+        return questions;
+    }
+
+    private record InterviewRow(UUID id, InterviewDetailsResponse response) {
+
+        InterviewDetailsResponse toResponse(List<QuestionDetailsResponse> questions) {
+            response.setQuestions(questions);
+            response.setTotalQuestions(questions.size());
+            return response;
+        }
+    }
+
+    private InterviewRow toInterviewRow(ResultSet rs, int rowNum) throws SQLException {
+        UUID id = rs.getObject("id", UUID.class);
+        OffsetDateTime startTime = rs.getObject("start_time", OffsetDateTime.class);
+        OffsetDateTime endTime = rs.getObject("end_time", OffsetDateTime.class);
+
+        InterviewDetailsResponse response = new InterviewDetailsResponse();
+        response.setInterviewId(id);
+        response.setName(rs.getString("name"));
+        response.setDescription(rs.getString("description"));
+        response.setDifficulty(Difficulty.valueOf(rs.getString("difficulty")));
+        response.setStatus(InterviewStatus.valueOf(rs.getString("status")));
+        response.setDocumentTitle(rs.getString("secondary_file_name"));
+        response.setCandidateReview(rs.getString("candidate_review"));
+        response.setCreatedBy(toUser(rs, "creator_"));
+        response.setAssignedTo(toUser(rs, "assignee_"));
+        response.setDurationInSeconds(startTime != null && endTime != null
+                ? Duration.between(startTime, endTime).toSeconds()
+                : null);
+        response.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class));
+        return new InterviewRow(id, response);
+    }
+
+    private static UserDetailsOverviewResponse toUser(ResultSet rs, String prefix) throws SQLException {
+        UUID userId = rs.getObject(prefix + "id", UUID.class);
+        if (userId == null) {
+            return null;
+        }
+        return new UserDetailsOverviewResponse(userId, rs.getString(prefix + "username"),
+                rs.getString(prefix + "first_name"), rs.getString(prefix + "last_name"));
+    }
+
+    // Same answer checks as Question, which this listing does not load
+    private static QuestionDetailsResponse toQuestion(ResultSet rs) throws SQLException {
+        String correctOption = rs.getString("correct_option");
+        String submittedAnswer = rs.getString("submitted_answer");
+        OffsetDateTime createdAt = rs.getObject("created_at", OffsetDateTime.class);
+        OffsetDateTime answeredAt = rs.getObject("answered_at", OffsetDateTime.class);
+        boolean answered = submittedAnswer != null && answeredAt != null;
+
+        return new QuestionDetailsResponse(
+                rs.getString("question_text"),
+                Difficulty.valueOf(rs.getString("difficulty")),
+                rs.getString("option_a"),
+                rs.getString("option_b"),
+                rs.getString("option_c"),
+                rs.getString("option_d"),
+                correctOption,
+                rs.getInt("question_order"),
+                submittedAnswer,
+                answered ? correctOption.equalsIgnoreCase(submittedAnswer) : null,
+                answered ? Duration.between(createdAt, answeredAt).toMillis() : null);
+    }
+}
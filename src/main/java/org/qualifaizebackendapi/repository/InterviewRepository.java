@@ -1,13 +1,18 @@
 package org.qualifaizebackendapi.repository;
 
+import jakarta.persistence.LockModeType;
 import org.qualifaizebackendapi.model.Interview;
+import org.qualifaizebackendapi.model.InterviewPerformanceStats;
 import org.qualifaizebackendapi.model.enums.InterviewStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -16,6 +21,9 @@ public interface InterviewRepository extends JpaRepository<Interview, UUID> {
     @Query("SELECT i.document.id FROM Interview i WHERE i.id = :interviewId")
     UUID findDocumentIdByInterviewId(UUID interviewId);
 
+    @Query("SELECT i.performanceStats FROM Interview i WHERE i.id = :interviewId")
+    Optional<InterviewPerformanceStats> findPerformanceStatsById(@Param("interviewId") UUID interviewId);
+
     @Query("""
             SELECT i FROM Interview i
             LEFT JOIN FETCH i.document d
@@ -45,4 +53,18 @@ public interface InterviewRepository extends JpaRepository<Interview, UUID> {
             """)
     Interview findInterviewByQuestionId(UUID questionId);
 
+    /**
+     * Loads the interview of the question with a row lock held until the end of the transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT i FROM Interview i
+            WHERE i.id = (SELECT q.interview.id FROM Question q WHERE q.id = :questionId)
+            """)
+    Optional<Interview> lockInterviewByQuestionId(@Param("questionId") UUID questionId);
+
+    @Modifying
+    @Query("UPDATE Interview i SET i.candidateReview = :review, i.updatedAt = CURRENT_TIMESTAMP WHERE i.id = :interviewId")
+    int updateCandidateReview(@Param("interviewId") UUID interviewId, @Param("review") String review);
+
 }
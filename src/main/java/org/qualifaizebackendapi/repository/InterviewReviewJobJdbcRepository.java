@@ -0,0 +1,199 @@
+package org.qualifaizebackendapi.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Queue operations on review jobs that need row locking or upserts, which JPA cannot express.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InterviewReviewJobJdbcRepository {
+
+    // A job already being processed is left alone, any other job of the interview starts over
+    private static final String ENQUEUE_SQL = """
+            INSERT INTO interview_review_job (id, interview_id)
+            VALUES (?, ?)
+            ON CONFLICT (interview_id) DO UPDATE
+                SET status          = 'QUEUED',
+                    attempts        = 0,
+                    next_attempt_at = now(),
+                    error_message   = NULL,
+                    finished_at     = NULL,
+                    batch           = false,
+                    updated_at      = now()
+            WHERE interview_review_job.status <> 'PROCESSING'
+            """;
+
+    // Also brings forward jobs waiting for a retry, so a catch-up after an outage does not wait for their backoff
+    private static final String ENQUEUE_UNREVIEWED_SQL = """
+            INSERT INTO interview_review_job (id, interview_id, batch)
+            SELECT gen_random_uuid(), i.id, true
+            FROM interview i
+            WHERE i.status = 'COMPLETED' AND i.candidate_review IS NULL
+            ON CONFLICT (interview_id) DO UPDATE
+                SET status          = 'QUEUED',
+                    attempts        = 0,
+                    next_attempt_at = now(),
+                    error_message   = NULL,
+                    finished_at     = NULL,
+                    batch           = true,
+                    updated_at      = now()
+            WHERE interview_review_job.status <> 'PROCESSING'
+            """;
+
+    // Due jobs, and jobs whose worker has held them longer than the lease, e.g. because its node died
+    private static final String CLAIM_SQL = """
+            UPDATE interview_review_job job
+            SET status     = 'PROCESSING',
+                attempts   = job.attempts + 1,
+                locked_by  = ?,
+                locked_at  = now(),
+                updated_at = now()
+            WHERE job.id IN (
+                SELECT id
+                FROM interview_review_job
+                WHERE batch = ?
+                  AND ((status = 'QUEUED' AND next_attempt_at <= now())
+                    OR (status = 'PROCESSING' AND locked_at < now() - make_interval(secs => ?)))
+                ORDER BY next_attempt_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING job.id, job.interview_id, job.attempts, job.batch
+            """;
+
+    private static final String UNCLAIM_SQL = """
+            UPDATE interview_review_job
+            SET status     = 'QUEUED',
+                attempts   = attempts - 1,
+                locked_by  = NULL,
+                locked_at  = NULL,
+                updated_at = now()
+            WHERE id = ? AND status = 'PROCESSING'
+            """;
+
+    // The outcome of an attempt only counts while the job is still held by that attempt. A job taken over
+    // after its lease expired has a different worker or attempt count, and its new holder decides instead
+    private static final String COMPLETE_SQL = """
+            UPDATE interview_review_job
+            SET status        = 'COMPLETED',
+                error_message = NULL,
+                finished_at   = now(),
+                locked_by     = NULL,
+                locked_at     = NULL,
+                updated_at    = now()
+            WHERE id = ? AND locked_by = ? AND attempts = ? AND status = 'PROCESSING'
+            """;
+
+    private static final String RETRY_SQL = """
+            UPDATE interview_review_job
+            SET status          = 'QUEUED',
+                next_attempt_at = ?,
+                error_message   = ?,
+                locked_by       = NULL,
+                locked_at       = NULL,
+                updated_at      = now()
+            WHERE id = ? AND locked_by = ? AND attempts = ? AND status = 'PROCESSING'
+            """;
+
+    private static final String FAIL_SQL = """
+            UPDATE interview_review_job
+            SET status        = 'FAILED',
+                error_message = ?,
+                finished_at   = now(),
+                locked_by     = NULL,
+                locked_at     = NULL,
+                updated_at    = now()
+            WHERE id = ? AND locked_by = ? AND attempts = ? AND status = 'PROCESSING'
+            """;
+
+    private static final String REDRIVE_FAILED_SQL = """
+            UPDATE interview_review_job
+            SET status          = 'QUEUED',
+                attempts        = 0,
+                next_attempt_at = now(),
+                error_message   = NULL,
+                finished_at     = NULL,
+                updated_at      = now()
+            WHERE status = 'FAILED'
+            """;
+
+    public record ClaimedJob(UUID id, UUID interviewId, int attempts, boolean batch) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Queues a review of the interview, or restarts its existing job unless that job is being processed.
+     *
+     * @return whether a job was queued
+     */
+    public boolean enqueue(UUID interviewId) {
+        return jdbcTemplate.update(ENQUEUE_SQL, UUID.randomUUID(), interviewId) > 0;
+    }
+
+    /**
+     * Queues a batch review of every completed interview without a review, except those being processed.
+     *
+     * @return the number of jobs queued
+     */
+    public int enqueueUnreviewed() {
+        return jdbcTemplate.update(ENQUEUE_UNREVIEWED_SQL);
+    }
+
+    /**
+     * Marks up to {@code limit} claimable regular or batch jobs as processed by the worker and counts the attempt.
+     * Jobs locked by a concurrent claim are skipped instead of waited for.
+     */
+    public List<ClaimedJob> claim(String workerId, boolean batch, int limit, Duration lease) {
+        return jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new ClaimedJob(
+                        rs.getObject("id", UUID.class),
+                        rs.getObject("interview_id", UUID.class),
+                        rs.getInt("attempts"),
+                        rs.getBoolean("batch")),
+                workerId, batch, lease.toSeconds(), limit);
+    }
+
+    /**
+     * Returns a claimed job that could not be started to the queue without counting the attempt.
+     */
+    public void unclaim(UUID jobId) {
+        jdbcTemplate.update(UNCLAIM_SQL, jobId);
+    }
+
+    /**
+     * @return whether the job was still held by the attempt and is now completed
+     */
+    public boolean complete(ClaimedJob job, String workerId) {
+        return jdbcTemplate.update(COMPLETE_SQL, job.id(), workerId, job.attempts()) > 0;
+    }
+
+    /**
+     * @return whether the job was still held by the attempt and is now queued for the retry
+     */
+    public boolean retryAt(ClaimedJob job, String workerId, OffsetDateTime nextAttemptAt, String errorMessage) {
+        return jdbcTemplate.update(RETRY_SQL, nextAttemptAt, errorMessage, job.id(), workerId, job.attempts()) > 0;
+    }
+
+    /**
+     * @return whether the job was still held by the attempt and is now failed
+     */
+    public boolean fail(ClaimedJob job, String workerId, String errorMessage) {
+        return jdbcTemplate.update(FAIL_SQL, errorMessage, job.id(), workerId, job.attempts()) > 0;
+    }
+
+    /**
+     * @return the number of failed jobs queued again
+     */
+    public int redriveFailed() {
+        return jdbcTemplate.update(REDRIVE_FAILED_SQL);
+    }
+}
@@ -0,0 +1,11 @@
+package org.qualifaizebackendapi.repository;
+
+import org.qualifaizebackendapi.model.InterviewReviewJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface InterviewReviewJobRepository extends JpaRepository<InterviewReviewJob, UUID> {
+}
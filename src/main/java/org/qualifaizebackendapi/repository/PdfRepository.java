@@ -1,11 +1,22 @@
 package org.qualifaizebackendapi.repository;
 
 import org.qualifaizebackendapi.model.Document;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface PdfRepository extends SoftDeletableRepository<Document, UUID> {
     boolean existsBySecondaryFileName(String secondaryFileName);
+
+    @Query("SELECT d.tableOfContents FROM Document d WHERE d.id = :id")
+    Optional<String> findTableOfContentsById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("UPDATE Document d SET d.tableOfContents = :tableOfContents WHERE d.id = :id")
+    int updateTableOfContents(@Param("id") UUID id, @Param("tableOfContents") String tableOfContents);
 }
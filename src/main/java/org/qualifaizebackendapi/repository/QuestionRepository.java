@@ -18,7 +18,7 @@ public interface QuestionRepository extends JpaRepository<Question, UUID> {
 
     @Query("""
             SELECT new org.qualifaizebackendapi.DTO.QuestionDetailsDTO(
-                q.questionText, q.correctOption, q.submittedAnswer, q.createdAt, q.answeredAt, q.difficulty)
+                q.questionText, q.correctOption, q.submittedAnswer, q.createdAt, q.answeredAt, q.difficulty, q.sectionTitle)
             FROM Question q
             WHERE q.interview.id = :interviewId
             AND q.submittedAnswer IS NOT NULL
@@ -0,0 +1,97 @@
+package org.qualifaizebackendapi.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes and reads the token-bounded content chunks of subsections.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SubsectionChunkJdbcRepository {
+
+    private static final String INSERT_CHUNK_SQL = """
+            INSERT INTO subsection_chunk (id, subsection_id, chunk_index, content, token_count)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    // The first subsection with the title, then all of its descendants in document order
+    private static final String FIND_SECTION_CHUNKS_SQL = """
+            WITH RECURSIVE section AS (
+                SELECT s.id, s.tree_path
+                FROM subsection s
+                         JOIN document d ON d.id = s.document_id
+                WHERE s.document_id = ? AND d.deleted = false AND LOWER(s.title) = LOWER(?)
+                ORDER BY s.tree_path
+                LIMIT 1
+            ),
+            section_tree AS (
+                SELECT id, tree_path
+                FROM section
+
+                UNION ALL
+
+                SELECT child.id, child.tree_path
+                FROM subsection child
+                         JOIN section_tree tree ON child.parent_id = tree.id
+            )
+            SELECT chunk.id, chunk.token_count
+            FROM section_tree tree
+                     JOIN subsection_chunk chunk ON chunk.subsection_id = tree.id
+            ORDER BY tree.tree_path, chunk.chunk_index
+            """;
+
+    private static final String FIND_CHUNK_CONTENTS_SQL = """
+            SELECT content
+            FROM subsection_chunk
+            WHERE id = ANY (?)
+            ORDER BY array_position(?, id)
+            """;
+
+    public record NewChunk(UUID subsectionId, int chunkIndex, String content, int tokenCount) {
+    }
+
+    public record ChunkReference(UUID id, int tokenCount) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<NewChunk> chunks) {
+        jdbcTemplate.batchUpdate(INSERT_CHUNK_SQL, chunks, SubsectionJdbcRepository.BATCH_SIZE, (ps, chunk) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, chunk.subsectionId());
+            ps.setInt(3, chunk.chunkIndex());
+            ps.setString(4, chunk.content());
+            ps.setInt(5, chunk.tokenCount());
+        });
+    }
+
+    /**
+     * Chunks of the section with the given title and its subsections, in document order, without their content.
+     * Empty when the section does not exist or the document was stored before chunking.
+     */
+    public List<ChunkReference> findSectionChunks(UUID documentId, String sectionTitle) {
+        return jdbcTemplate.query(FIND_SECTION_CHUNKS_SQL,
+                (rs, rowNum) -> new ChunkReference(rs.getObject("id", UUID.class), rs.getInt("token_count")),
+                documentId, sectionTitle);
+    }
+
+    /**
+     * Contents of the given chunks, in the order of the ids.
+     */
+    public List<String> findChunkContents(List<UUID> chunkIds) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(FIND_CHUNK_CONTENTS_SQL);
+            Array ids = connection.createArrayOf("uuid", chunkIds.toArray());
+            ps.setArray(1, ids);
+            ps.setArray(2, ids);
+            return ps;
+        }, (rs, rowNum) -> rs.getString("content"));
+    }
+}
@@ -0,0 +1,77 @@
+package org.qualifaizebackendapi.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.qualifaizebackendapi.model.Subsection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bulk insert path for subsections of freshly parsed documents.
+ * Bypasses the JPA cascade so that thousands of rows are written with batched JDBC statements.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SubsectionJdbcRepository {
+
+    public static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SUBSECTION_SQL = """
+            INSERT INTO subsection (id, document_id, parent_id, title, content, position, level, tree_path, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_CONCATENATED_CONTENT_SQL = """
+            WITH RECURSIVE subsection_tree AS (
+                SELECT id, content, tree_path, ARRAY [id] AS ancestors
+                FROM subsection
+                WHERE document_id = ? AND parent_id IS NULL
+
+                UNION ALL
+
+                SELECT child.id, child.content, child.tree_path, tree.ancestors || child.id
+                FROM subsection child
+                         JOIN subsection_tree tree ON child.parent_id = tree.id
+            )
+            UPDATE subsection s
+            SET concatenated_content = subtree.content
+            FROM (SELECT ancestor.id, string_agg(tree.content, '' ORDER BY tree.tree_path) AS content
+                  FROM subsection_tree tree
+                           CROSS JOIN LATERAL unnest(tree.ancestors) AS ancestor(id)
+                  GROUP BY ancestor.id) subtree
+            WHERE s.id = subtree.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the given subsections in list order. Every subsection must already have an id.
+     * Parents have to be inserted before, or in an earlier batch than, their children.
+     */
+    public void batchInsert(List<Subsection> subsections) {
+        jdbcTemplate.batchUpdate(INSERT_SUBSECTION_SQL, subsections, BATCH_SIZE, (ps, subsection) -> {
+            ps.setObject(1, subsection.getId());
+            ps.setObject(2, subsection.getDocument().getId());
+            ps.setObject(3, subsection.getParent() != null ? subsection.getParent().getId() : null, Types.OTHER);
+            ps.setString(4, subsection.getTitle());
+            ps.setString(5, subsection.getContent());
+            ps.setInt(6, subsection.getPosition());
+            ps.setInt(7, subsection.getLevel());
+            ps.setArray(8, ps.getConnection().createArrayOf("integer",
+                    Arrays.stream(subsection.getTreePath()).boxed().toArray()));
+            ps.setObject(9, subsection.getCreatedAt());
+        });
+    }
+
+    /**
+     * Computes the concatenated subtree content of every subsection of the document in the database,
+     * once all of its subsections have been inserted.
+     */
+    public int updateConcatenatedContent(UUID documentId) {
+        return jdbcTemplate.update(UPDATE_CONCATENATED_CONTENT_SQL, documentId);
+    }
+}
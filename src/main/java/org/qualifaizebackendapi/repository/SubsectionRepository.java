@@ -0,0 +1,39 @@
+package org.qualifaizebackendapi.repository;
+
+import org.qualifaizebackendapi.DTO.TableOfContentsEntryDTO;
+import org.qualifaizebackendapi.model.Subsection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface SubsectionRepository extends JpaRepository<Subsection, UUID> {
+
+    /**
+     * Content of the first subsection with the title in document order, as the tree walk used to find it.
+     */
+    @Query("""
+            SELECT s.concatenatedContent FROM Subsection s
+            WHERE s.document.id = :documentId
+            AND s.document.deleted = false
+            AND LOWER(s.title) = LOWER(:title)
+            ORDER BY s.treePath ASC
+            LIMIT 1
+            """)
+    Optional<String> findConcatenatedContentByDocumentIdAndTitle(@Param("documentId") UUID documentId,
+                                                                 @Param("title") String title);
+
+    @Query("""
+            SELECT new org.qualifaizebackendapi.DTO.TableOfContentsEntryDTO(s.id, p.id, s.title, s.level, s.position)
+            FROM Subsection s
+            LEFT JOIN s.parent p
+            WHERE s.document.id = :documentId
+            ORDER BY s.level ASC, s.position ASC
+            """)
+    List<TableOfContentsEntryDTO> findTableOfContentsEntriesByDocumentId(@Param("documentId") UUID documentId);
+}
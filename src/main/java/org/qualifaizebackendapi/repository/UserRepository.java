@@ -1,16 +1,25 @@
 package org.qualifaizebackendapi.repository;
 
 import org.qualifaizebackendapi.model.User;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface UserRepository extends SoftDeletableRepository<User, UUID> {
     User findByUsername(String username);
 
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :userId")
+    int updatePassword(@Param("userId") UUID userId, @Param("password") String password);
+
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :userId AND u.deleted = false")
+    Optional<Integer> findActiveTokenVersion(@Param("userId") UUID userId);
+
     @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.username = :username AND u.id != :userId AND u.deleted = false")
     boolean existsByUsernameAndIdNot(@Param("username") String username, @Param("userId") UUID userId);
 
@@ -0,0 +1,110 @@
+package org.qualifaizebackendapi.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.qualifaizebackendapi.exception.ServiceBusyException;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt on the bounded {@code passwordHashingExecutor} instead of the request thread, so a burst
+ * of logins or registrations uses at most the pool's cores and leaves the rest to other endpoints.
+ * Calls fail fast with {@link ServiceBusyException} when the pool's queue is full, or when the hash is
+ * not done within {@code users.password-hashing.max-wait}.
+ * <p>
+ * Hashes made with a lower cost than the configured strength report {@link #upgradeEncoding(String)},
+ * so they are replaced at the next successful login.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final BCryptPasswordEncoder delegate;
+    private final Executor executor;
+    private final Duration maxWait;
+    private final MeterRegistry meterRegistry;
+    private final String strength;
+
+    public BoundedPasswordEncoder(int strength, Executor executor, Duration maxWait, MeterRegistry meterRegistry) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.executor = executor;
+        this.maxWait = maxWait;
+        this.meterRegistry = meterRegistry;
+        this.strength = String.valueOf(strength);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run("encode", strength, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run("matches", costOf(encodedPassword), () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(String operation, String cost, Supplier<T> hashing) {
+        Timer timer = Timer.builder("password.hashing")
+                .tags("operation", operation, "cost", cost)
+                .description("Time spent hashing or verifying passwords, excluding the wait for the pool")
+                .register(meterRegistry);
+
+        CompletableFuture<T> result;
+        try {
+            result = CompletableFuture.supplyAsync(() -> timer.record(hashing), executor);
+        } catch (TaskRejectedException e) {
+            throw reject(operation, "queue_full");
+        }
+
+        try {
+            return result.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(false);
+            throw reject(operation, "timeout");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject(operation, "interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private ServiceBusyException reject(String operation, String reason) {
+        Counter.builder("password.hashing.rejected")
+                .tags("operation", operation, "reason", reason)
+                .description("Password hashing calls rejected because the pool was busy")
+                .register(meterRegistry)
+                .increment();
+
+        log.warn("Rejected password {} because the hashing pool is busy: {}", operation, reason);
+        return new ServiceBusyException("Too many logins and registrations are being processed, please try again shortly");
+    }
+
+    /**
+     * BCrypt hashes look like {@code $2a$10$...}, with the cost between the second and third {@code $}
+     */
+    private static String costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return "unknown";
+        }
+        return encodedPassword.substring(4, 6);
+    }
+}
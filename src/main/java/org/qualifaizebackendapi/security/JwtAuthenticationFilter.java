@@ -1,15 +1,20 @@
 package org.qualifaizebackendapi.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -18,11 +23,17 @@ import java.io.IOException;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
+    private final TokenRevocationService tokenRevocationService;
     private final UserDetailsService userDetailsService;
 
+    // Builds the principal from the token instead of loading the user on every request
+    @Value("${jwt.claims-principal.enabled:true}")
+    private boolean claimsPrincipalEnabled;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
@@ -33,32 +44,71 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        final String jwt = authHeader.substring(7);
-        final String userName = jwtService.extractUserName(jwt);
-
         Authentication authentication
                 = SecurityContextHolder.getContext().getAuthentication();
 
-        if(userName !=null  && authentication == null) {
-            UserDetails userDetails
-                    = userDetailsService.loadUserByUsername(userName);
-
-            if(jwtService.isTokenValid(jwt,userDetails)) {
-                UsernamePasswordAuthenticationToken authenticationToken
-                        = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities()
-                );
-                authenticationToken.setDetails(
-                        new WebAuthenticationDetailsSource()
-                                .buildDetails(request)
-                );
-                SecurityContextHolder.getContext()
-                        .setAuthentication(authenticationToken);
-            }
+        if(authentication != null) {
+            filterChain.doFilter(request,response);
+            return;
+        }
+
+        // The token is verified once here, its claims are trusted for the rest of the request
+        final Claims claims;
+        try {
+            claims = jwtService.verify(authHeader.substring(7));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Rejected bearer token: {}", e.getMessage());
+            filterChain.doFilter(request,response);
+            return;
+        }
+
+        final UserDetails userDetails;
+        try {
+            userDetails = claimsPrincipalEnabled ? principalFromClaims(claims) : principalFromDatabase(claims);
+        } catch (IllegalArgumentException | UsernameNotFoundException e) {
+            log.debug("Rejected bearer token of {}: {}", claims.getSubject(), e.getMessage());
+            filterChain.doFilter(request,response);
+            return;
+        }
+
+        if(userDetails != null) {
+            UsernamePasswordAuthenticationToken authenticationToken
+                    = new UsernamePasswordAuthenticationToken(
+                    userDetails,
+                    null,
+                    userDetails.getAuthorities()
+            );
+            authenticationToken.setDetails(
+                    new WebAuthenticationDetailsSource()
+                            .buildDetails(request)
+            );
+            SecurityContextHolder.getContext()
+                    .setAuthentication(authenticationToken);
         }
 
         filterChain.doFilter(request,response);
     }
-}
\ No newline at end of file
+
+    /**
+     * @return the principal carried by the token, or null if the token was revoked
+     */
+    private UserDetails principalFromClaims(Claims claims) {
+        QualifAIzeUserDetails userDetails = jwtService.toUserDetails(claims);
+        return tokenRevocationService.isCurrent(userDetails.getId(), userDetails.getTokenVersion())
+                ? userDetails
+                : null;
+    }
+
+    private UserDetails principalFromDatabase(Claims claims) {
+        final String userName = claims.getSubject();
+        if(userName == null) {
+            return null;
+        }
+
+        QualifAIzeUserDetails userDetails
+                = (QualifAIzeUserDetails) userDetailsService.loadUserByUsername(userName);
+        boolean current = userName.equals(userDetails.getUsername())
+                && userDetails.getTokenVersion() == jwtService.toUserDetails(claims).getTokenVersion();
+        return current ? userDetails : null;
+    }
+}
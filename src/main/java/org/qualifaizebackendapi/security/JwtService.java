@@ -1,25 +1,63 @@
 package org.qualifaizebackendapi.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.qualifaizebackendapi.model.enums.Role;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.*;
-import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private static final String USER_ID_CLAIM = "userId";
+    private static final String ROLES_CLAIM = "roles";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
 
-    public String generateToken(UUID userId, String username, Set<Role> roles) {
+    private final SecretKey key;
+    private final JwtParser parser;
+
+    /**
+     * Claims of tokens that were verified recently, keyed by the SHA-256 of the token, so a client sending
+     * the same token on every request has it HMAC-verified and parsed only once per TTL.
+     * Entries never outlive the expiration of their token.
+     */
+    private final Cache<String, Claims> verifiedClaims;
+
+    public JwtService(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.secret}") String secretKey,
+            @Value("${jwt.claims-cache.ttl:60s}") Duration claimsCacheTtl,
+            @Value("${jwt.claims-cache.max-size:10000}") long claimsCacheMaxSize) {
+        this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verifiedClaims = Caffeine.newBuilder()
+                .expireAfter(new ClaimsExpiry(claimsCacheTtl))
+                .maximumSize(claimsCacheMaxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaims, "jwtClaims");
+    }
+
+    public String generateToken(UUID userId, String username, Set<Role> roles, int tokenVersion) {
         Map<String, Object> claims = new HashMap<>();
 
         List<String> roleNames = roles.stream().map(Role::name).toList();
@@ -28,47 +66,104 @@ public class JwtService {
                 .claims()
                 .add(claims)
                 .subject(username)
-                .add("userId", userId)
-                .add("roles", roleNames)
+                .add(USER_ID_CLAIM, userId)
+                .add(ROLES_CLAIM, roleNames)
+                .add(TOKEN_VERSION_CLAIM, tokenVersion)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 24)) //24h
                 .and()
-                .signWith(getKey())
+                .signWith(key)
                 .compact();
     }
 
-    private SecretKey getKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    /**
+     * Verifies the signature and expiration of the token once and returns its claims.
+     *
+     * @throws JwtException if the token is malformed, not signed with our key or expired
+     */
+    public Claims verify(String token) {
+        String tokenHash = sha256(token);
+
+        Claims claims = verifiedClaims.getIfPresent(tokenHash);
+        if (claims != null && !isExpired(claims)) {
+            return claims;
+        }
+
+        claims = parser.parseSignedClaims(token).getPayload();
+        verifiedClaims.put(tokenHash, claims);
+        return claims;
     }
+
     public String extractUserName(String token) {
-        return extractClaims(token, Claims::getSubject);
+        return verify(token).getSubject();
     }
 
-    private <T> T extractClaims(String token, Function<Claims,T> claimResolver) {
-        Claims claims = extractClaims(token);
-        return claimResolver.apply(claims);
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        try {
+            return verify(token).getSubject().equals(userDetails.getUsername());
+        } catch (JwtException e) {
+            return false;
+        }
     }
 
-    private Claims extractClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * Builds the principal from the claims of a verified token, without loading the user.
+     * Tokens issued before token versions existed count as version 0.
+     *
+     * @throws IllegalArgumentException if the token lacks the user id or roles
+     */
+    public QualifAIzeUserDetails toUserDetails(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        List<?> roleNames = claims.get(ROLES_CLAIM, List.class);
+        if (userId == null || roleNames == null) {
+            throw new IllegalArgumentException("Token does not carry the user id and roles");
+        }
+
+        Set<Role> roles = roleNames.stream()
+                .map(roleName -> Role.valueOf(roleName.toString()))
+                .collect(Collectors.toSet());
+        Integer tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Integer.class);
+
+        return new QualifAIzeUserDetails(UUID.fromString(userId), claims.getSubject(), roles,
+                tokenVersion != null ? tokenVersion : 0);
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String userName = extractUserName(token);
-        return (userName.equals(userDetails.getUsername()) && !isTokenExpired(token));
+    private static boolean isExpired(Claims claims) {
+        return claims.getExpiration() != null && claims.getExpiration().before(new Date());
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaims(token, Claims::getExpiration);
+    /**
+     * Keeps claims for the cache TTL, or until the token expires if that is sooner
+     */
+    private record ClaimsExpiry(Duration ttl) implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String tokenHash, Claims claims, long currentTime) {
+            if (claims.getExpiration() == null) {
+                return ttl.toNanos();
+            }
+            long untilTokenExpires = Duration.ofMillis(
+                    claims.getExpiration().getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(ttl.toNanos(), untilTokenExpires));
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenHash, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -1,42 +1,66 @@
 package org.qualifaizebackendapi.security;
 
 import org.qualifaizebackendapi.model.User;
+import org.qualifaizebackendapi.model.enums.Role;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+/**
+ * Either loaded from the database at login, or built from the claims of a verified token on every
+ * other request, in which case there is no {@link User} entity and no password.
+ */
 public class QualifAIzeUserDetails implements UserDetails {
 
+    private final UUID id;
+    private final String username;
+    private final Set<Role> roles;
+    private final int tokenVersion;
     private final User user;
 
     public QualifAIzeUserDetails(User user) {
+        this.id = user.getId();
+        this.username = user.getUsername();
+        this.roles = Set.copyOf(user.getRoles());
+        this.tokenVersion = user.getTokenVersion();
         this.user = user;
     }
 
+    public QualifAIzeUserDetails(UUID id, String username, Set<Role> roles, int tokenVersion) {
+        this.id = id;
+        this.username = username;
+        this.roles = Set.copyOf(roles);
+        this.tokenVersion = tokenVersion;
+        this.user = null;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return user.getRoles().stream()
+        return roles.stream()
                 .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
                 .collect(Collectors.toList());
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return user != null ? user.getPassword() : null;
     }
 
     @Override
     public String getUsername() {
-        return user.getUsername();
+        return username;
     }
 
-    public UUID getId() { return user.getId(); }
+    public UUID getId() { return id; }
+
+    public Set<Role> getRoles() { return roles; }
 
-    public User getUser() { return user; }
+    public int getTokenVersion() { return tokenVersion; }
 
     @Override
     public boolean isAccountNonExpired() {
@@ -55,6 +79,6 @@ public class QualifAIzeUserDetails implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return !user.isDeleted();
+        return user == null || !user.isDeleted();
     }
 }
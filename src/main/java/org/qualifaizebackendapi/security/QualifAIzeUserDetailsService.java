@@ -1,24 +1,35 @@
 package org.qualifaizebackendapi.security;
 
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
 import org.qualifaizebackendapi.model.User;
 import org.qualifaizebackendapi.repository.UserRepository;
+import org.qualifaizebackendapi.service.impl.UserCache;
+import org.qualifaizebackendapi.service.impl.UserChangeBroadcaster;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-public class QualifAIzeUserDetailsService implements UserDetailsService {
+@Slf4j
+public class QualifAIzeUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
+    private final UserCache userCache;
     private final UserRepository userRepository;
+    private final UserChangeBroadcaster userChangeBroadcaster;
 
-    public QualifAIzeUserDetailsService(UserRepository userRepository) {
+    public QualifAIzeUserDetailsService(UserCache userCache, UserRepository userRepository,
+                                        UserChangeBroadcaster userChangeBroadcaster) {
+        this.userCache = userCache;
         this.userRepository = userRepository;
+        this.userChangeBroadcaster = userChangeBroadcaster;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username);
+        User user = userCache.findByUsername(username);
         if (user == null) {
             String message = "Username " + username + " not found";
             throw new UsernameNotFoundException(message);
@@ -29,4 +40,21 @@ public class QualifAIzeUserDetailsService implements UserDetailsService {
 
         return new QualifAIzeUserDetails(user);
     }
+
+    /**
+     * Stores the password rehashed at login with the configured BCrypt strength. The principal is returned
+     * as is, its password is not used after authentication.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        QualifAIzeUserDetails userDetails = (QualifAIzeUserDetails) user;
+        userRepository.updatePassword(userDetails.getId(), newPassword);
+
+        userCache.evict(userDetails.getId());
+        userChangeBroadcaster.publish(userDetails.getId());
+
+        log.info("Rehashed password of user {} with the configured strength", userDetails.getId());
+        return user;
+    }
 }
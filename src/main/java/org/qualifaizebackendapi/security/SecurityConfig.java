@@ -1,8 +1,12 @@
 package org.qualifaizebackendapi.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.qualifaizebackendapi.exception.CustomAccessDeniedHandler;
 import org.qualifaizebackendapi.exception.CustomAuthenticationEntryPoint;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -14,10 +18,13 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
 @RequiredArgsConstructor
 @EnableWebSecurity
 @Configuration
@@ -35,6 +42,8 @@ public class SecurityConfig {
                 .sessionManagement(sessionManagement -> sessionManagement
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorizeRequests -> authorizeRequests
+                        // Async dispatches finish a request that was already authorized, like an SSE review stream
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // ===============================================
                         // PUBLIC ENDPOINTS (No Authentication Required)
                         // ===============================================
@@ -64,11 +73,14 @@ public class SecurityConfig {
                         // INTERVIEW MANAGEMENT ENDPOINTS
                         // ===============================================
                         .requestMatchers(HttpMethod.POST, "/api/v1/interview").hasAnyRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/v1/interview/review-jobs/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/v1/interview/with-questions").hasAnyRole("USER", "ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/v1/interview/with-questions/page").hasAnyRole("USER", "ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/v1/interview/assigned").hasAnyRole("USER", "ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/v1/interview/next/**").hasAnyRole("USER", "ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/v1/interview/answer/**").hasAnyRole("USER", "ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/v1/interview/*").hasAnyRole("USER", "ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/v1/interview/*/review/stream").hasRole("ADMIN")
                         .anyRequest()
                         .authenticated())
                 .exceptionHandling(exception -> exception
@@ -81,15 +93,21 @@ public class SecurityConfig {
     }
 
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Qualifier("passwordHashingExecutor") Executor passwordHashingExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${users.password-hashing.bcrypt-strength:10}") int bcryptStrength,
+            @Value("${users.password-hashing.max-wait:5s}") Duration maxWait) {
+        return new BoundedPasswordEncoder(bcryptStrength, passwordHashingExecutor, maxWait, meterRegistry);
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
-        authProvider.setPasswordEncoder(bCryptPasswordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         authProvider.setUserDetailsService(userDetailsService);
+        // Rehashes passwords at login when their cost is below bcrypt-strength
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
@@ -0,0 +1,84 @@
+package org.qualifaizebackendapi.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.qualifaizebackendapi.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Decides whether a token is still current for its user without loading the user. Tokens carry the
+ * token version of the user at issue time, a token is current while it matches the version in the
+ * database and the user is not deleted.
+ * <p>
+ * Versions are cached in memory. Changes made on this node invalidate the cache right away, changes made
+ * on other nodes when their notification arrives, and after {@code jwt.token-version-cache.ttl} at the latest.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+
+    private static final int REVOKED = -1;
+
+    private final UserRepository userRepository;
+    private final LoadingCache<UUID, Integer> tokenVersions;
+
+    public TokenRevocationService(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.token-version-cache.ttl:30s}") Duration ttl,
+            @Value("${jwt.token-version-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.tokenVersions = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build(this::loadTokenVersion);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, tokenVersions, "tokenVersions");
+    }
+
+    public boolean isCurrent(UUID userId, int tokenVersion) {
+        return tokenVersions.get(userId) == tokenVersion;
+    }
+
+    /**
+     * Forgets the cached version of the user, so tokens revoked by the current transaction are rejected
+     * once it commits. Invalidating before the commit would let a concurrent request cache the old version.
+     */
+    public void revoke(UUID userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tokenVersions.invalidate(userId);
+                }
+            });
+        } else {
+            tokenVersions.invalidate(userId);
+        }
+    }
+
+    public void invalidate(UUID userId) {
+        tokenVersions.invalidate(userId);
+    }
+
+    public void invalidateAll() {
+        tokenVersions.invalidateAll();
+    }
+
+    private Integer loadTokenVersion(UUID userId) {
+        return userRepository.findActiveTokenVersion(userId).orElseGet(() -> {
+            log.debug("Rejecting tokens of missing or deleted user: {}", userId);
+            return REVOKED;
+        });
+    }
+}
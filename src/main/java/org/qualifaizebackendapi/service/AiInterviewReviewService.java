@@ -1,7 +1,22 @@
 package org.qualifaizebackendapi.service;
 
 import org.qualifaizebackendapi.DTO.response.interview.InterviewDetailsResponse;
+import org.qualifaizebackendapi.model.enums.LlmProvider;
+import reactor.core.publisher.Flux;
 
 public interface AiInterviewReviewService {
     String reviewInterview(InterviewDetailsResponse interviewDetails);
+
+    /**
+     * Streams the review as the model generates it. The concatenated chunks are the raw review,
+     * still to be passed through {@link #stripMarkdownFence(String)} before it is stored.
+     */
+    Flux<String> streamInterviewReview(InterviewDetailsResponse interviewDetails);
+
+    String stripMarkdownFence(String review);
+
+    /**
+     * Provider of the model reviews are generated with
+     */
+    LlmProvider getProvider();
 }
@@ -5,11 +5,14 @@ import org.qualifaizebackendapi.DTO.response.interview.AssignedInterviewResponse
 import org.qualifaizebackendapi.DTO.response.interview.ChangeInterviewStatusResponse;
 import org.qualifaizebackendapi.DTO.response.interview.CreateInterviewResponse;
 import org.qualifaizebackendapi.DTO.response.interview.InterviewDetailsResponse;
+import org.qualifaizebackendapi.DTO.response.interview.InterviewPageResponse;
+import org.qualifaizebackendapi.DTO.response.interview.ReviewJobRedriveResponse;
 import org.qualifaizebackendapi.DTO.response.interview.question.QuestionToAsk;
 import org.qualifaizebackendapi.DTO.response.interview.question.SubmitAnswerResponse;
 import org.qualifaizebackendapi.exception.ResourceNotFoundException;
 import org.qualifaizebackendapi.exception.DuplicateInterviewException;
 import org.qualifaizebackendapi.model.enums.InterviewStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.UUID;
@@ -42,6 +45,18 @@ public interface InterviewService {
      */
     List<InterviewDetailsResponse> getInterviewsWithQuestions(UUID interviewId);
 
+    /**
+     * Retrieves one page of interviews with their questions, newest first, based on user role.
+     * Admins see all interviews, regular users see only assigned interviews.
+     *
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param size   Number of interviews per page, between 1 and 100
+     * @param status Optional status filter
+     * @return The interviews of the page and the cursor of the next page, null on the last page
+     * @throws IllegalArgumentException if the cursor or size is invalid
+     */
+    InterviewPageResponse getInterviewsWithQuestionsPage(String cursor, int size, InterviewStatus status);
+
     /**
      * Retrieves all interviews assigned to the current authenticated user.
      *
@@ -80,4 +95,34 @@ public interface InterviewService {
      * @throws IllegalArgumentException if the answer format is invalid
      */
     SubmitAnswerResponse submitAnswer(UUID questionId, String userAnswer);
-}
\ No newline at end of file
+
+    /**
+     * Streams the review of a completed interview to an admin as server-sent events.
+     * While the review is being generated, the text generated so far is sent first and then every new chunk.
+     * A review that is already stored is sent at once as the final event.
+     *
+     * @param interviewId The UUID of the interview whose review to watch
+     * @return Emitter sending {@code chunk}, {@code complete} and {@code error} events
+     * @throws ResourceNotFoundException if the interview doesn't exist or no review is stored or being generated
+     */
+    SseEmitter streamInterviewReview(UUID interviewId);
+
+    /**
+     * Queues review generation again. Without an interview ID, every review job that failed permanently
+     * is queued again; with one, a review of that completed interview is queued, also when it never had a job.
+     *
+     * @param interviewId Optional UUID of a completed interview to review again
+     * @return Response containing the number of queued jobs
+     * @throws ResourceNotFoundException if the interview doesn't exist
+     * @throws IllegalArgumentException if the interview is not completed
+     */
+    ReviewJobRedriveResponse redriveReviewJobs(UUID interviewId);
+
+    /**
+     * Queues a batch review of every completed interview that has no review yet. Batch reviews run with
+     * limited concurrency and rate after regular reviews, so a large catch-up does not delay new interviews.
+     *
+     * @return Response containing the number of queued jobs
+     */
+    ReviewJobRedriveResponse queueMissingReviews();
+}
@@ -1,5 +1,6 @@
 package org.qualifaizebackendapi.service;
 
+import org.qualifaizebackendapi.DTO.response.pdf.DocumentIngestionJobResponse;
 import org.qualifaizebackendapi.DTO.response.pdf.UploadedPdfResponse;
 import org.qualifaizebackendapi.DTO.response.pdf.UploadedPdfResponseWithConcatenatedContent;
 import org.qualifaizebackendapi.model.Document;
@@ -10,6 +11,8 @@ import java.util.UUID;
 
 public interface PdfService {
     UploadedPdfResponse savePdf(MultipartFile file, String secondaryFileName);
+    DocumentIngestionJobResponse submitIngestionJob(MultipartFile file, String secondaryFileName);
+    DocumentIngestionJobResponse getIngestionJob(UUID jobId);
     UploadedPdfResponse changeDocumentSecondaryFilename(UUID documentId, String newTitle);
     UploadedPdfResponseWithConcatenatedContent getConcatenatedContentById(UUID documentId, String subsectionTitle);
     List<UploadedPdfResponse> getAllDocuments();
@@ -0,0 +1,10 @@
+package org.qualifaizebackendapi.service;
+
+import org.qualifaizebackendapi.DTO.QuestionDetailsDTO;
+import org.qualifaizebackendapi.model.InterviewPerformanceStats;
+
+import java.util.List;
+
+public interface PromptContextBuilder {
+    String buildPreviousQuestionsAnalysis(List<QuestionDetailsDTO> answeredQuestions, InterviewPerformanceStats stats);
+}
@@ -10,4 +10,6 @@ public interface QuestionService {
     Question getQuestion(UUID questionId);
     Question addUserSubmitAnswer(UUID questionId, String submitAnswer);
     String previousQuestionsAnalysisText(UUID interviewId);
+    void prefetchNextQuestion(UUID interviewId);
+    void discardPrefetchedQuestion(UUID interviewId);
 }
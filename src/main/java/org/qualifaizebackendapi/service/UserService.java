@@ -18,6 +18,10 @@ public interface UserService {
     void deleteUser(UUID userId);
     List<UserDetailsResponse> getAllUsers();
     User fetchUserOrThrow(UUID userId);
+    /**
+     * The authenticated user as a lazy reference, to be set on entities without loading the user.
+     */
+    User getCurrentUserReference();
     UserDetailsResponse updateUserDetails(UUID userId, UpdateUserDetailsRequest request);
     UserDetailsResponse getCurrentUserDetails();
     /**
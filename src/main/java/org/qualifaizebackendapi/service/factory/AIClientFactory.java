@@ -1,6 +1,8 @@
 package org.qualifaizebackendapi.service.factory;
 
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
+import org.qualifaizebackendapi.model.enums.LlmProvider;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.mistralai.MistralAiChatModel;
 import org.springframework.ai.mistralai.MistralAiChatOptions;
@@ -10,7 +12,10 @@ import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.ai.openai.api.OpenAiApi;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.retry.support.RetryTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -21,6 +26,14 @@ public class AIClientFactory {
 
     private final OpenAiChatOptions baseOpenAiOptions;
     private final MistralAiChatOptions baseMistralOptions;
+    private final ClientHttpRequestFactory aiRequestFactory;
+    private final ObservationRegistry observationRegistry;
+    private final LlmGovernor llmGovernor;
+
+    private static final String MISTRAL_AI_BASE_URL = "https://api.mistral.ai";
+
+    // Retries are left to the LlmGovernor, which backs off without holding a permit
+    private static final RetryTemplate NO_RETRY = RetryTemplate.builder().maxAttempts(1).build();
 
     @Value("${spring.ai.openai.api-key}")
     private String openAiApiKey;
@@ -72,10 +85,16 @@ public class AIClientFactory {
 
             OpenAiChatModel chatModel = OpenAiChatModel.builder()
                     .defaultOptions(options)
-                    .openAiApi(OpenAiApi.builder().apiKey(openAiApiKey).build())
+                    .openAiApi(OpenAiApi.builder()
+                            .apiKey(openAiApiKey)
+                            .restClientBuilder(RestClient.builder().requestFactory(aiRequestFactory))
+                            .responseErrorHandler(LlmResponseErrorHandler.INSTANCE)
+                            .build())
+                    .retryTemplate(NO_RETRY)
+                    .observationRegistry(observationRegistry)
                     .build();
 
-            return ChatClient.builder(chatModel)
+            return ChatClient.builder(new GovernedChatModel(chatModel, llmGovernor, LlmProvider.OPENAI, model.getValue()))
                     .defaultSystem(promptName)
                     .build();
         });
@@ -90,10 +109,14 @@ public class AIClientFactory {
 
             MistralAiChatModel chatModel = MistralAiChatModel.builder()
                     .defaultOptions(options)
-                    .mistralAiApi(new MistralAiApi(mistralAiApiKey))
+                    .mistralAiApi(new MistralAiApi(MISTRAL_AI_BASE_URL, mistralAiApiKey,
+                            RestClient.builder().requestFactory(aiRequestFactory),
+                            LlmResponseErrorHandler.INSTANCE))
+                    .retryTemplate(NO_RETRY)
+                    .observationRegistry(observationRegistry)
                     .build();
 
-            return ChatClient.builder(chatModel)
+            return ChatClient.builder(new GovernedChatModel(chatModel, llmGovernor, LlmProvider.MISTRAL, model.getValue()))
                     .defaultSystem(promptName)
                     .build();
         });
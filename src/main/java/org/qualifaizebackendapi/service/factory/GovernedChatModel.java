@@ -0,0 +1,43 @@
+package org.qualifaizebackendapi.service.factory;
+
+import org.qualifaizebackendapi.model.enums.LlmProvider;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.chat.prompt.Prompt;
+import reactor.core.publisher.Flux;
+
+/**
+ * Sends every request of a chat model through the {@link LlmGovernor} of its provider and model.
+ * Wraps the model rather than the chat client, so every HTTP request is governed on its own,
+ * including the ones the governor retries.
+ */
+class GovernedChatModel implements ChatModel {
+
+    private final ChatModel delegate;
+    private final LlmGovernor llmGovernor;
+    private final LlmProvider provider;
+    private final String model;
+
+    GovernedChatModel(ChatModel delegate, LlmGovernor llmGovernor, LlmProvider provider, String model) {
+        this.delegate = delegate;
+        this.llmGovernor = llmGovernor;
+        this.provider = provider;
+        this.model = model;
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        return llmGovernor.call(provider, model, prompt, delegate::call);
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        return llmGovernor.stream(provider, model, prompt, delegate::stream);
+    }
+
+    @Override
+    public ChatOptions getDefaultOptions() {
+        return delegate.getDefaultOptions();
+    }
+}
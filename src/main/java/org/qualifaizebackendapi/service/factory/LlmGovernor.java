@@ -0,0 +1,335 @@
+package org.qualifaizebackendapi.service.factory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.qualifaizebackendapi.exception.ServiceBusyException;
+import org.qualifaizebackendapi.model.enums.LlmProvider;
+import org.qualifaizebackendapi.utils.TokenBucket;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Throttles LLM calls per provider and model, so peaks are queued here instead of being answered with 429s
+ * by the provider. A call needs a free concurrency slot, a request from the requests-per-minute bucket and
+ * its estimated tokens from the tokens-per-minute bucket. Calls wait for these up to
+ * {@code interview.llm.governor.max-wait}, and fail fast with {@link ServiceBusyException} when the wait
+ * would be longer or too many calls are already waiting.
+ * <p>
+ * The estimate is the prompt size plus a reserve for the completion. Once a call returns, the difference
+ * between the tokens taken and the tokens the provider reports is refunded or charged.
+ * <p>
+ * The models themselves do not retry. Rate limits, server errors and I/O failures are retried here up to
+ * {@code interview.llm.governor.max-attempts} times with an exponential backoff. Every attempt takes its own
+ * permit, so each HTTP request counts against the limits and no slot is held while backing off.
+ */
+@Component
+@Slf4j
+public class LlmGovernor {
+
+    private final MeterRegistry meterRegistry;
+    private final TokenCountEstimator tokenCountEstimator;
+
+    private final boolean enabled;
+    private final Duration maxWait;
+    private final int maxQueued;
+    private final int completionTokenReserve;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration streamIdleTimeout;
+    private final Map<LlmProvider, Limits> providerLimits;
+
+    private final Map<String, Gate> gates = new ConcurrentHashMap<>();
+
+    private record Limits(int requestsPerMinute, int tokensPerMinute, int maxConcurrent) {
+    }
+
+    public LlmGovernor(
+            MeterRegistry meterRegistry,
+            TokenCountEstimator tokenCountEstimator,
+            @Value("${interview.llm.governor.enabled:true}") boolean enabled,
+            @Value("${interview.llm.governor.max-wait:10s}") Duration maxWait,
+            @Value("${interview.llm.governor.max-queued:50}") int maxQueued,
+            @Value("${interview.llm.governor.completion-token-reserve:1000}") int completionTokenReserve,
+            @Value("${interview.llm.governor.max-attempts:3}") int maxAttempts,
+            @Value("${interview.llm.governor.initial-backoff:2s}") Duration initialBackoff,
+            @Value("${interview.llm.governor.max-backoff:20s}") Duration maxBackoff,
+            @Value("${external-services.http-client.ai-read-timeout:60s}") Duration streamIdleTimeout,
+            @Value("${interview.llm.governor.openai.requests-per-minute:500}") int openAiRequestsPerMinute,
+            @Value("${interview.llm.governor.openai.tokens-per-minute:200000}") int openAiTokensPerMinute,
+            @Value("${interview.llm.governor.openai.max-concurrent:20}") int openAiMaxConcurrent,
+            @Value("${interview.llm.governor.mistral.requests-per-minute:300}") int mistralRequestsPerMinute,
+            @Value("${interview.llm.governor.mistral.tokens-per-minute:500000}") int mistralTokensPerMinute,
+            @Value("${interview.llm.governor.mistral.max-concurrent:10}") int mistralMaxConcurrent) {
+        this.meterRegistry = meterRegistry;
+        this.tokenCountEstimator = tokenCountEstimator;
+        this.enabled = enabled;
+        this.maxWait = maxWait;
+        this.maxQueued = maxQueued;
+        this.completionTokenReserve = completionTokenReserve;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.streamIdleTimeout = streamIdleTimeout;
+        this.providerLimits = Map.of(
+                LlmProvider.OPENAI, new Limits(openAiRequestsPerMinute, openAiTokensPerMinute, openAiMaxConcurrent),
+                LlmProvider.MISTRAL, new Limits(mistralRequestsPerMinute, mistralTokensPerMinute, mistralMaxConcurrent));
+    }
+
+    /**
+     * Sends a call once the governor lets it through, retrying transient failures after a backoff.
+     *
+     * @throws ServiceBusyException if an attempt would have to wait too long for the governor
+     */
+    public ChatResponse call(LlmProvider provider, String model, Prompt prompt, Function<Prompt, ChatResponse> call) {
+        long estimatedTokens = estimateTokens(prompt);
+
+        for (int attempt = 1; ; attempt++) {
+            Permit permit = acquire(provider, model, estimatedTokens);
+            long usedTokens = 0;
+            try {
+                ChatResponse response = call.apply(prompt);
+                usedTokens = usedTokens(response);
+                return response;
+            } catch (TransientAiException | ResourceAccessException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.warn("Attempt {} of {} call to {} failed, retrying: {}",
+                        attempt, provider.name().toLowerCase(), model, e.getMessage());
+                retried(provider, model);
+            } finally {
+                permit.release(usedTokens);
+            }
+
+            backOff(attempt);
+        }
+    }
+
+    /**
+     * Streamed responses are not retried and only counted with their estimate. The permit is acquired when
+     * the stream is subscribed, on the subscribing thread, and released when it ends.
+     * <p>
+     * Streams go through the providers' WebClient, which the read timeout of the RestClient request factory
+     * does not cover. A stream fails instead once no chunk arrives for {@code ai-read-timeout}.
+     */
+    public Flux<ChatResponse> stream(LlmProvider provider, String model, Prompt prompt,
+                                     Function<Prompt, Flux<ChatResponse>> stream) {
+        return Flux.defer(() -> {
+            Permit permit = acquire(provider, model, estimateTokens(prompt));
+            return stream.apply(prompt)
+                    .timeout(streamIdleTimeout)
+                    .doFinally(signal -> permit.release(0));
+        });
+    }
+
+    /**
+     * Waits until the call may be sent to the provider.
+     *
+     * @return permit to release once the call has finished
+     * @throws ServiceBusyException if the call would have to wait too long
+     */
+    private Permit acquire(LlmProvider provider, String model, long estimatedTokens) {
+        if (!enabled) {
+            return Permit.NONE;
+        }
+
+        return gates.computeIfAbsent(provider.name() + ":" + model, key -> new Gate(provider, model))
+                .acquire(estimatedTokens);
+    }
+
+    private long estimateTokens(Prompt prompt) {
+        return tokenCountEstimator.estimate(prompt.getContents()) + (long) completionTokenReserve;
+    }
+
+    private void backOff(int attempt) {
+        long backoffMillis = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(backoffMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("The AI provider is at capacity, please try again shortly");
+        }
+    }
+
+    private void retried(LlmProvider provider, String model) {
+        Counter.builder("llm.governor.retries")
+                .tags("provider", provider.name().toLowerCase(), "model", model)
+                .description("LLM calls retried after a transient failure")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static long usedTokens(ChatResponse chatResponse) {
+        if (chatResponse == null || chatResponse.getMetadata() == null) {
+            return 0;
+        }
+        Usage usage = chatResponse.getMetadata().getUsage();
+        Integer totalTokens = usage != null ? usage.getTotalTokens() : null;
+        return totalTokens != null ? totalTokens : 0;
+    }
+
+    /**
+     * Held while a call is in flight. Released once, later releases are ignored.
+     */
+    public static class Permit {
+
+        static final Permit NONE = new Permit(null, 0);
+
+        private final Gate gate;
+        private final long acquiredTokens;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Gate gate, long acquiredTokens) {
+            this.gate = gate;
+            this.acquiredTokens = acquiredTokens;
+        }
+
+        /**
+         * @param usedTokens tokens reported by the provider, or 0 when unknown to keep what was taken
+         */
+        public void release(long usedTokens) {
+            if (gate != null && released.compareAndSet(false, true)) {
+                gate.release(acquiredTokens, usedTokens);
+            }
+        }
+    }
+
+    private class Gate {
+
+        private final String provider;
+        private final String model;
+        private final Semaphore concurrency;
+        private final TokenBucket requests;
+        private final TokenBucket tokens;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private final Timer acquiredWait;
+        private final Timer rejectedWait;
+        private final Counter usedTokens;
+
+        Gate(LlmProvider llmProvider, String model) {
+            Limits limits = providerLimits.get(llmProvider);
+            this.provider = llmProvider.name().toLowerCase();
+            this.model = model;
+            this.concurrency = new Semaphore(limits.maxConcurrent(), true);
+            // Bursts are capped at a tenth of a minute's budget, so a peak is spread over the minute
+            this.requests = new TokenBucket(limits.requestsPerMinute(), limits.requestsPerMinute() / 10);
+            this.tokens = new TokenBucket(limits.tokensPerMinute(), limits.tokensPerMinute() / 10);
+
+            Tags tags = Tags.of("provider", provider, "model", model);
+            this.acquiredWait = Timer.builder("llm.governor.wait").tags(tags).tag("outcome", "acquired")
+                    .description("Time LLM calls waited for the governor").register(meterRegistry);
+            this.rejectedWait = Timer.builder("llm.governor.wait").tags(tags).tag("outcome", "rejected")
+                    .description("Time LLM calls waited for the governor").register(meterRegistry);
+            this.usedTokens = Counter.builder("llm.governor.tokens").tags(tags)
+                    .description("Tokens used by LLM calls as reported by the provider").register(meterRegistry);
+            Gauge.builder("llm.governor.queued", queued, AtomicInteger::get).tags(tags)
+                    .description("LLM calls waiting for the governor").register(meterRegistry);
+            Gauge.builder("llm.governor.in.flight", inFlight, AtomicInteger::get).tags(tags)
+                    .description("LLM calls sent to the provider and not yet finished").register(meterRegistry);
+        }
+
+        Permit acquire(long estimatedTokens) {
+            long start = System.nanoTime();
+            // Estimates above the burst capacity only take the capacity, the rest is charged after the call
+            long acquiredTokens = tokens.acquirable(estimatedTokens);
+
+            if (queued.incrementAndGet() > maxQueued) {
+                queued.decrementAndGet();
+                throw reject("queue_full", start);
+            }
+
+            try {
+                long deadline = start + maxWait.toNanos();
+                if (!concurrency.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    throw reject("concurrency", start);
+                }
+
+                if (!waitFor(requests, 1, deadline)) {
+                    concurrency.release();
+                    throw reject("requests_per_minute", start);
+                }
+                if (!waitFor(tokens, acquiredTokens, deadline)) {
+                    requests.refund(1);
+                    concurrency.release();
+                    throw reject("tokens_per_minute", start);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw reject("interrupted", start);
+            } finally {
+                queued.decrementAndGet();
+            }
+
+            inFlight.incrementAndGet();
+            acquiredWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return new Permit(this, acquiredTokens);
+        }
+
+        void release(long acquiredTokens, long usedTokens) {
+            inFlight.decrementAndGet();
+            concurrency.release();
+
+            if (usedTokens > 0) {
+                this.usedTokens.increment(usedTokens);
+                if (usedTokens > acquiredTokens) {
+                    tokens.charge(usedTokens - acquiredTokens);
+                } else {
+                    tokens.refund(acquiredTokens - usedTokens);
+                }
+            }
+        }
+
+        /**
+         * Sleeps until the bucket has the tokens, unless they would only be available after the deadline
+         */
+        private boolean waitFor(TokenBucket bucket, long amount, long deadline) throws InterruptedException {
+            while (!bucket.tryAcquire(amount)) {
+                long waitNanos = bucket.nanosUntilAvailable(amount);
+                if (System.nanoTime() + waitNanos > deadline) {
+                    return false;
+                }
+                LockSupport.parkNanos(Math.max(waitNanos, 1_000_000));
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+            return true;
+        }
+
+        private ServiceBusyException reject(String reason, long start) {
+            rejectedWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            Counter.builder("llm.governor.rejected")
+                    .tags("provider", provider, "model", model, "reason", reason)
+                    .description("LLM calls rejected by the governor")
+                    .register(meterRegistry)
+                    .increment();
+
+            log.warn("Rejected {} call to {} after waiting for the governor: {}", provider, model, reason);
+            return new ServiceBusyException("The AI provider is at capacity, please try again shortly");
+        }
+    }
+}
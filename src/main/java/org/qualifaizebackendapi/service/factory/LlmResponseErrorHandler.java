@@ -0,0 +1,40 @@
+package org.qualifaizebackendapi.service.factory;
+
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.ResponseErrorHandler;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Classifies provider errors for the {@link LlmGovernor}. Unlike Spring AI's default handler, 429 is
+ * transient, so rate limited calls are retried after a backoff like server errors.
+ */
+class LlmResponseErrorHandler implements ResponseErrorHandler {
+
+    static final LlmResponseErrorHandler INSTANCE = new LlmResponseErrorHandler();
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    @Override
+    public boolean hasError(ClientHttpResponse response) throws IOException {
+        return response.getStatusCode().isError();
+    }
+
+    @Override
+    public void handleError(URI url, HttpMethod method, ClientHttpResponse response) throws IOException {
+        int status = response.getStatusCode().value();
+        String message = String.format("%s - %s", status,
+                StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8));
+
+        if (status == TOO_MANY_REQUESTS || response.getStatusCode().is5xxServerError()) {
+            throw new TransientAiException(message);
+        }
+        throw new NonTransientAiException(message);
+    }
+}
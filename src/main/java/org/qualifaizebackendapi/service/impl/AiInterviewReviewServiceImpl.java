@@ -1,8 +1,8 @@
 package org.qualifaizebackendapi.service.impl;
 
-import lombok.RequiredArgsConstructor;
 import org.qualifaizebackendapi.DTO.response.interview.InterviewDetailsResponse;
 import org.qualifaizebackendapi.DTO.response.interview.question.QuestionDetailsResponse;
+import org.qualifaizebackendapi.model.enums.LlmProvider;
 import org.qualifaizebackendapi.service.AiInterviewReviewService;
 import org.qualifaizebackendapi.service.factory.AIClientFactory;
 import org.springframework.ai.chat.client.ChatClient;
@@ -11,33 +11,76 @@ import org.springframework.ai.openai.api.OpenAiApi;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.stringtemplate.v4.ST;
+import reactor.core.publisher.Flux;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 @Service
-@RequiredArgsConstructor
 public class AiInterviewReviewServiceImpl implements AiInterviewReviewService {
 
     private final AIClientFactory aiClientFactory;
 
-    @Value("classpath:prompts/interview_review/interviewReviewUserPrompt.st")
-    private Resource interviewReviewUserPrompt;
+    /**
+     * The user prompt compiled once; every review renders a copy that shares the compiled template
+     * instead of parsing the template again.
+     */
+    private final ST interviewReviewUserPromptTemplate;
 
     private final OpenAiApi.ChatModel LLM_MODEL = OpenAiApi.ChatModel.GPT_4_1;
     //private final MistralAiApi.ChatModel LLM_MODEL = MistralAiApi.ChatModel.MINISTRAL_8B_LATEST;
+    private final LlmProvider LLM_PROVIDER = LlmProvider.OPENAI;
+
+    public AiInterviewReviewServiceImpl(
+            AIClientFactory aiClientFactory,
+            @Value("classpath:prompts/interview_review/interviewReviewUserPrompt.st") Resource interviewReviewUserPrompt) {
+        this.aiClientFactory = aiClientFactory;
+        try {
+            this.interviewReviewUserPromptTemplate = new ST(
+                    interviewReviewUserPrompt.getContentAsString(StandardCharsets.UTF_8), '{', '}');
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the interview review prompt", e);
+        }
+    }
 
     @Override
     public String reviewInterview(InterviewDetailsResponse interviewDetails) {
         ChatClient interviewReviewClient = aiClientFactory.createInterviewReviewClient(LLM_MODEL);
 
-        Map<String, Object> promptParams = this.buildInterviewReviewPromptParameters(interviewDetails);
+        String userPrompt = this.renderUserPrompt(interviewDetails);
 
         String review = Objects.requireNonNull(interviewReviewClient
                 .prompt()
-                .user(userSpec -> userSpec.text(interviewReviewUserPrompt).params(promptParams))
+                .user(userPrompt)
                 .call()
                 .chatResponse()).getResult().getOutput().getText();
 
+        return stripMarkdownFence(review);
+    }
+
+    @Override
+    public Flux<String> streamInterviewReview(InterviewDetailsResponse interviewDetails) {
+        ChatClient interviewReviewClient = aiClientFactory.createInterviewReviewClient(LLM_MODEL);
+
+        String userPrompt = this.renderUserPrompt(interviewDetails);
+
+        return interviewReviewClient
+                .prompt()
+                .user(userPrompt)
+                .stream()
+                .content();
+    }
+
+    @Override
+    public LlmProvider getProvider() {
+        return LLM_PROVIDER;
+    }
+
+    @Override
+    public String stripMarkdownFence(String review) {
         if (review.startsWith("```markdown")) {
             review = review.replaceFirst("```markdown", "");
             if (review.endsWith("```")) {
@@ -49,6 +92,15 @@ public class AiInterviewReviewServiceImpl implements AiInterviewReviewService {
         return review;
     }
 
+    /**
+     * Without params the chat client sends the text as is, so the prompt is only rendered here
+     */
+    private String renderUserPrompt(InterviewDetailsResponse interviewDetails) {
+        ST userPrompt = new ST(interviewReviewUserPromptTemplate);
+        this.buildInterviewReviewPromptParameters(interviewDetails).forEach(userPrompt::add);
+        return userPrompt.render();
+    }
+
     private Map<String, Object> buildInterviewReviewPromptParameters(InterviewDetailsResponse interviewDetails) {
         String interviewName =  interviewDetails.getName();
         String documentTitle = interviewDetails.getDocumentTitle();
@@ -4,12 +4,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.qualifaizebackendapi.DTO.response.interview.question.GenerateQuestionDTO;
 import org.qualifaizebackendapi.DTO.response.interview.question.QuestionSectionResponse;
-import org.qualifaizebackendapi.DTO.response.pdf.UploadedPdfResponseWithConcatenatedContent;
 import org.qualifaizebackendapi.model.Interview;
+import org.qualifaizebackendapi.model.InterviewPerformanceStats;
 import org.qualifaizebackendapi.repository.InterviewRepository;
 import org.qualifaizebackendapi.service.AiQuestionGenerationService;
 import org.qualifaizebackendapi.service.AiSectionSelectionService;
-import org.qualifaizebackendapi.service.PdfService;
 import org.qualifaizebackendapi.service.factory.AIClientFactory;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.mistralai.api.MistralAiApi;
@@ -27,7 +26,7 @@ import java.util.UUID;
 public class AiQuestionGenerationServiceImpl implements AiQuestionGenerationService {
 
     private final AIClientFactory aiClientFactory;
-    private final PdfService pdfService;
+    private final SectionContentSelector sectionContentSelector;
     private final InterviewRepository interviewRepository;
 
     private final AiSectionSelectionService aiSectionSelectionService;
@@ -46,6 +45,7 @@ public class AiQuestionGenerationServiceImpl implements AiQuestionGenerationServ
         String sectionContent = retrieveContentForSection(interview, selectedSection.getTitle());
         GenerateQuestionDTO generatedQuestion = generateQuestionFromContent(previousQuestionAnalysisText, interview,
                 sectionContent);
+        generatedQuestion.setSectionTitle(selectedSection.getTitle());
 
         log.info("Completed question generation process for interview: {} - Section: '{}', Question: '{}'",
                 interview.getId(), selectedSection.getTitle(), generatedQuestion.getQuestionText());
@@ -78,9 +78,9 @@ public class AiQuestionGenerationServiceImpl implements AiQuestionGenerationServ
     private String retrieveContentForSection(Interview interview, String sectionTitle) {
         UUID documentId = interviewRepository.findDocumentIdByInterviewId(interview.getId());
 
-        UploadedPdfResponseWithConcatenatedContent sectionContent =
-                pdfService.getConcatenatedContentById(documentId, sectionTitle);
+        InterviewPerformanceStats stats = interview.getPerformanceStats();
+        int answeredQuestions = stats == null ? 0 : stats.getAnsweredCount();
 
-        return sectionContent.getContent();
+        return sectionContentSelector.selectContent(documentId, sectionTitle, interview.getId(), answeredQuestions);
     }
 }
\ No newline at end of file
@@ -22,6 +22,8 @@ import java.util.Map;
 public class AiSectionSelectionServiceImpl implements AiSectionSelectionService {
 
     private final AIClientFactory aiClientFactory;
+    private final SectionSelectionCache sectionSelectionCache;
+    private final TableOfContentsService tableOfContentsService;
 
     @Value("classpath:prompts/content_selection/sectionSelectionUserPrompt.st")
     private Resource contentSelectionUserPrompt;
@@ -33,25 +35,32 @@ public class AiSectionSelectionServiceImpl implements AiSectionSelectionService
     public QuestionSectionResponse selectSectionForNextQuestion(Interview interview, String previousQuestionsAnalysisText) {
         log.info("Starting AI-powered section selection for interview: {}", interview.getId());
 
+        Document document = interview.getDocument();
+
+        QuestionSectionResponse selectedSection = sectionSelectionCache.getOrSelect(
+                document.getId(), interview.getDifficulty(), interview.getPerformanceStats(),
+                () -> selectSectionWithLlm(document, previousQuestionsAnalysisText));
+
+        log.info("AI selected section '{}' for interview: {} - Reason: {}",
+                selectedSection.getTitle(), interview.getId(), selectedSection.getExplanation());
+
+        return selectedSection;
+    }
+
+    private QuestionSectionResponse selectSectionWithLlm(Document document, String previousQuestionsAnalysisText) {
         ChatClient contentSelectionClient = aiClientFactory.createContentSelectionClient(LLM_MODEL);
 
-        Document document = interview.getDocument();
-        String text = document.getTableOfContentsText();
+        String text = tableOfContentsService.getTableOfContents(document.getId());
 
         Map<String, Object> promptParams = Map.of(
                 "table_of_contents", text,
                 "answered_questions", previousQuestionsAnalysisText
         );
 
-        QuestionSectionResponse selectedSection = contentSelectionClient
+        return contentSelectionClient
                 .prompt()
                 .user(userSpec -> userSpec.text(contentSelectionUserPrompt).params(promptParams))
                 .call()
                 .entity(QuestionSectionResponse.class);
-
-        log.info("AI selected section '{}' for interview: {} - Reason: {}",
-                selectedSection.getTitle(), interview.getId(), selectedSection.getExplanation());
-
-        return selectedSection;
     }
 }
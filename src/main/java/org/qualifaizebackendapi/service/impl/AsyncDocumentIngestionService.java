@@ -0,0 +1,178 @@
+package org.qualifaizebackendapi.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.qualifaizebackendapi.exception.ResourceNotFoundException;
+import org.qualifaizebackendapi.model.Document;
+import org.qualifaizebackendapi.model.DocumentIngestionJob;
+import org.qualifaizebackendapi.repository.DocumentIngestionJobRepository;
+import org.qualifaizebackendapi.model.enums.IngestionJobStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AsyncDocumentIngestionService {
+
+    static final String PDF_FILE_PREFIX = "qualifaize-ingestion-";
+    static final String PARSER_RESPONSE_FILE_PREFIX = "qualifaize-parser-response-";
+
+    private static final String INTERRUPTED_JOB_MESSAGE = "Ingestion was interrupted, please upload the document again";
+
+    private final DocumentIngestionService documentIngestionService;
+    private final DocumentIngestionJobRepository documentIngestionJobRepository;
+
+    /**
+     * Jobs that have not been updated for this long are no longer running on any node.
+     * Must stay above the document parser read timeout, since a job waiting for the parser writes no progress
+     */
+    @Value("${documents.ingestion.stale-after:30m}")
+    private Duration staleAfter;
+
+    /**
+     * Jobs running on this node, never failed by the recovery sweep however long they take.
+     */
+    private final Set<UUID> runningJobs = ConcurrentHashMap.newKeySet();
+
+    @Async("documentIngestionExecutor")
+    public void ingestDocument(UUID jobId, Path pdfFile) {
+        try {
+            DocumentIngestionJob job = documentIngestionJobRepository.findById(jobId)
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            String.format("Ingestion job with ID %s not found", jobId)
+                    ));
+
+            if (job.isFinished()) {
+                log.warn("Ingestion job {} was already {} before it started", jobId, job.getStatus());
+                return;
+            }
+
+            runningJobs.add(jobId);
+            job.start();
+            job = documentIngestionJobRepository.save(job);
+
+            AtomicInteger progress = new AtomicInteger();
+
+            log.info("Starting ingestion job {} for file: {}", jobId, job.getFileName());
+
+            try {
+                Document document = new Document();
+                document.setFileName(job.getFileName());
+                document.setSecondaryFileName(job.getSecondaryFileName());
+                document.setUploadedByUser(job.getUploadedByUser());
+
+                Document savedDocument = documentIngestionService.parseAndSaveDocument(
+                        new NamedFileSystemResource(pdfFile, job.getFileName()), document, subsectionsWritten -> {
+                            progress.set(subsectionsWritten);
+                            documentIngestionJobRepository.updateProgress(jobId, subsectionsWritten, OffsetDateTime.now());
+                        });
+
+                job.complete(savedDocument, progress.get());
+                documentIngestionJobRepository.save(job);
+
+                log.info("Ingestion job {} completed, document ID: {}, subsections: {}",
+                        jobId, savedDocument.getId(), progress.get());
+            } catch (Exception e) {
+                log.error("Ingestion job {} failed: {}", jobId, e.getMessage(), e);
+                job.fail(e.getMessage());
+                documentIngestionJobRepository.save(job);
+            }
+        } catch (Exception e) {
+            log.error("Could not update status of ingestion job {}: {}", jobId, e.getMessage(), e);
+        } finally {
+            runningJobs.remove(jobId);
+            deleteQuietly(pdfFile);
+        }
+    }
+
+    /**
+     * Fails queued and processing jobs that stopped being updated, e.g. because the node running them
+     * was restarted. Their PDF was a temp file of that node, so they cannot be resumed.
+     * The first sweep runs right after startup.
+     */
+    @Scheduled(fixedDelayString = "${documents.ingestion.recovery-interval:5m}")
+    public void failStaleJobs() {
+        OffsetDateTime staleBefore = OffsetDateTime.now().minus(staleAfter);
+        List<DocumentIngestionJob> staleJobs = documentIngestionJobRepository.findByStatusInAndUpdatedAtBefore(
+                List.of(IngestionJobStatus.QUEUED, IngestionJobStatus.PROCESSING), staleBefore);
+
+        for (DocumentIngestionJob job : staleJobs) {
+            if (runningJobs.contains(job.getId())) {
+                continue;
+            }
+            log.warn("Failing ingestion job {} for file {}, not updated since {}",
+                    job.getId(), job.getFileName(), job.getUpdatedAt());
+            job.fail(INTERRUPTED_JOB_MESSAGE);
+            documentIngestionJobRepository.save(job);
+        }
+    }
+
+    /**
+     * Removes uploads and parser responses left in the temp directory by jobs that were running
+     * when the application stopped. Only files older than the stale threshold are removed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void deleteOrphanedTempFiles() {
+        Path tempDirectory = Path.of(System.getProperty("java.io.tmpdir"));
+        Instant staleBefore = Instant.now().minus(staleAfter);
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(tempDirectory, file -> {
+            String name = file.getFileName().toString();
+            return name.startsWith(PDF_FILE_PREFIX) || name.startsWith(PARSER_RESPONSE_FILE_PREFIX);
+        })) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(staleBefore)) {
+                    log.info("Deleting orphaned ingestion file {}", file);
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not clean up orphaned ingestion files in {}: {}", tempDirectory, e.getMessage());
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete temporary ingestion file {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * The parser uses the multipart file name, so the temp file is sent under the original upload name.
+     */
+    private static class NamedFileSystemResource extends FileSystemResource {
+
+        private final String filename;
+
+        NamedFileSystemResource(Path path, String filename) {
+            super(path);
+            this.filename = filename;
+        }
+
+        @Override
+        public String getFilename() {
+            return filename;
+        }
+    }
+}
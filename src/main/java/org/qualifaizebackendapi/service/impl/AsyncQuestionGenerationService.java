@@ -0,0 +1,42 @@
+package org.qualifaizebackendapi.service.impl;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.qualifaizebackendapi.DTO.response.interview.question.GenerateQuestionDTO;
+import org.qualifaizebackendapi.exception.ResourceNotFoundException;
+import org.qualifaizebackendapi.model.Interview;
+import org.qualifaizebackendapi.repository.InterviewRepository;
+import org.qualifaizebackendapi.service.AiQuestionGenerationService;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AsyncQuestionGenerationService {
+
+    private final AiQuestionGenerationService aiQuestionGenerationService;
+    private final InterviewRepository interviewRepository;
+
+    @Async("questionPrefetchExecutor")
+    @Transactional
+    public CompletableFuture<GenerateQuestionDTO> generateQuestion(UUID interviewId, String previousQuestionsAnalysisText) {
+        log.info("Starting background question generation for interview: {}", interviewId);
+
+        Interview interview = interviewRepository.findById(interviewId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        String.format("Interview with ID %s not found", interviewId)
+                ));
+
+        GenerateQuestionDTO generatedQuestion = aiQuestionGenerationService
+                .generateNextInterviewQuestion(interview, previousQuestionsAnalysisText);
+
+        log.info("Background question generation finished for interview: {}", interviewId);
+
+        return CompletableFuture.completedFuture(generatedQuestion);
+    }
+}
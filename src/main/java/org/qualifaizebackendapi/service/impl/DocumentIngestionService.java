@@ -0,0 +1,105 @@
+package org.qualifaizebackendapi.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.qualifaizebackendapi.model.Document;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.function.IntConsumer;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentIngestionService {
+
+    private final RestClient documentParserRestClient;
+    private final DocumentPersistenceService documentPersistenceService;
+
+    public Document parseAndSaveDocument(Resource pdfResource, Document document) {
+        return parseAndSaveDocument(pdfResource, document, subsectionsWritten -> { });
+    }
+
+    /**
+     * Sends the PDF to the document parser service and spools the streamed response to a temporary file
+     * before persisting it, so no database connection is held while the parser is still answering.
+     *
+     * @param onSubsectionsWritten receives the total number of subsections written after every batch
+     */
+    public Document parseAndSaveDocument(Resource pdfResource, Document document, IntConsumer onSubsectionsWritten) {
+        log.debug("Sending file to document parser service: {}", pdfResource.getFilename());
+
+        Path parserResponse = null;
+        try {
+            MultiValueMap<String, Object> requestBody = createMultipartRequestBody(pdfResource);
+            parserResponse = Files.createTempFile(AsyncDocumentIngestionService.PARSER_RESPONSE_FILE_PREFIX, ".json");
+            Path responseFile = parserResponse;
+
+            documentParserRestClient
+                    .post()
+                    .uri("/parse")
+                    .contentType(MediaType.MULTIPART_FORM_DATA)
+                    .body(requestBody)
+                    .exchange((request, response) -> {
+                        if (response.getStatusCode().isError()) {
+                            throw new RestClientResponseException("Document parser service returned an error",
+                                    response.getStatusCode(), response.getStatusText(), response.getHeaders(),
+                                    response.getBody().readAllBytes(), null);
+                        }
+                        try (InputStream body = response.getBody()) {
+                            return Files.copy(body, responseFile, StandardCopyOption.REPLACE_EXISTING);
+                        }
+                    });
+
+            Document savedDocument = documentPersistenceService.saveDocumentFromParserResponse(
+                    document, parserResponse, onSubsectionsWritten);
+
+            log.info("Document parsing completed successfully: {}", savedDocument.getFileName());
+
+            return savedDocument;
+
+        } catch (RestClientResponseException e) {
+            String errorMessage = String.format("Document parser service error [%d]: %s",
+                    e.getStatusCode().value(), e.getResponseBodyAsString());
+            throw new RuntimeException(errorMessage, e);
+        } catch (RestClientException e) {
+            throw new RuntimeException("Document parser service request failed: " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read document parser response: " + e.getMessage(), e);
+        } finally {
+            deleteQuietly(parserResponse);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete parser response file {}", file, e);
+        }
+    }
+
+    /**
+     * Builds the multipart body around a resource that is read lazily while the request is written,
+     * so the PDF is streamed from disk instead of being copied into heap first.
+     */
+    private MultiValueMap<String, Object> createMultipartRequestBody(Resource pdfResource) {
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", pdfResource);
+        return body;
+    }
+}
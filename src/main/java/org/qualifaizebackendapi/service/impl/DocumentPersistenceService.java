@@ -0,0 +1,114 @@
+package org.qualifaizebackendapi.service.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.qualifaizebackendapi.model.Document;
+import org.qualifaizebackendapi.model.Subsection;
+import org.qualifaizebackendapi.repository.PdfRepository;
+import org.qualifaizebackendapi.repository.SubsectionChunkJdbcRepository;
+import org.qualifaizebackendapi.repository.SubsectionJdbcRepository;
+import org.qualifaizebackendapi.repository.SubsectionRepository;
+import org.qualifaizebackendapi.utils.DocumentParserResponseReader;
+import org.qualifaizebackendapi.utils.TableOfContentsRenderer;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentPersistenceService {
+
+    private final PdfRepository pdfRepository;
+    private final SubsectionJdbcRepository subsectionJdbcRepository;
+    private final SubsectionRepository subsectionRepository;
+    private final SubsectionChunkJdbcRepository subsectionChunkJdbcRepository;
+    private final SectionContentChunker sectionContentChunker;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Persists a document from a parser response that has already been received in full. The subsection tree is
+     * read level by level, so every batch of subsections is written after the batches holding their parents,
+     * together with their content split into token-bounded chunks. Each level is a separate pass over the response
+     * file, which makes the read cost proportional to the tree depth times the response size. Once the whole tree
+     * is stored, their concatenated content is computed in the database and the table of contents is rendered
+     * from the subsection titles.
+     *
+     * @param onSubsectionsWritten receives the total number of subsections written after every batch
+     */
+    @Transactional(rollbackOn = IOException.class)
+    public Document saveDocumentFromParserResponse(Document document, Path parserResponse,
+                                                   IntConsumer onSubsectionsWritten) throws IOException {
+        try (JsonParser parser = createParser(parserResponse)) {
+            DocumentParserResponseReader.readDocumentFields(parser, document);
+        }
+        Document savedDocument = pdfRepository.saveAndFlush(document);
+
+        List<Subsection> pendingSubsections = new ArrayList<>(SubsectionJdbcRepository.BATCH_SIZE);
+        int[] writtenSubsections = {0};
+        int subsectionCount = 0;
+        int levelCount;
+        int depth = 0;
+
+        do {
+            try (JsonParser parser = createParser(parserResponse)) {
+                levelCount = DocumentParserResponseReader.readLevel(parser, savedDocument, depth, subsection -> {
+                    pendingSubsections.add(subsection);
+
+                    if (pendingSubsections.size() >= SubsectionJdbcRepository.BATCH_SIZE) {
+                        writtenSubsections[0] += pendingSubsections.size();
+                        insertSubsectionsWithChunks(pendingSubsections);
+                        pendingSubsections.clear();
+                        onSubsectionsWritten.accept(writtenSubsections[0]);
+                    }
+                });
+            }
+
+            // a level has to be on disk before the next one references it
+            if (!pendingSubsections.isEmpty()) {
+                writtenSubsections[0] += pendingSubsections.size();
+                insertSubsectionsWithChunks(pendingSubsections);
+                pendingSubsections.clear();
+                onSubsectionsWritten.accept(writtenSubsections[0]);
+            }
+            subsectionCount += levelCount;
+            depth++;
+        } while (levelCount > 0);
+
+        subsectionJdbcRepository.updateConcatenatedContent(savedDocument.getId());
+        savedDocument.setTableOfContents(TableOfContentsRenderer.render(
+                subsectionRepository.findTableOfContentsEntriesByDocumentId(savedDocument.getId())));
+
+        log.debug("Inserted {} subsections in {} levels for document: {}", subsectionCount, depth - 1, savedDocument.getId());
+
+        return savedDocument;
+    }
+
+    private JsonParser createParser(Path parserResponse) throws IOException {
+        return objectMapper.getFactory().createParser(Files.newInputStream(parserResponse));
+    }
+
+    private void insertSubsectionsWithChunks(List<Subsection> subsections) {
+        subsectionJdbcRepository.batchInsert(subsections);
+
+        List<SubsectionChunkJdbcRepository.NewChunk> chunks = new ArrayList<>(subsections.size());
+        for (Subsection subsection : subsections) {
+            List<SectionContentChunker.ContentChunk> contentChunks = sectionContentChunker.chunk(subsection.getContent());
+            for (int i = 0; i < contentChunks.size(); i++) {
+                SectionContentChunker.ContentChunk contentChunk = contentChunks.get(i);
+                chunks.add(new SubsectionChunkJdbcRepository.NewChunk(
+                        subsection.getId(), i, contentChunk.content(), contentChunk.tokenCount()));
+            }
+        }
+
+        subsectionChunkJdbcRepository.batchInsert(chunks);
+    }
+}
@@ -0,0 +1,105 @@
+package org.qualifaizebackendapi.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.qualifaizebackendapi.DTO.response.interview.InterviewDetailsResponse;
+import org.qualifaizebackendapi.DTO.response.interview.question.QuestionDetailsResponse;
+import org.qualifaizebackendapi.exception.ResourceNotFoundException;
+import org.qualifaizebackendapi.mapper.InterviewMapper;
+import org.qualifaizebackendapi.model.Interview;
+import org.qualifaizebackendapi.repository.InterviewRepository;
+import org.qualifaizebackendapi.service.AiInterviewReviewService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Generates and stores the review of one interview. Runs on review workers, which have no user
+ * in the security context, so the interview details are mapped here instead of through the interview service.
+ * <p>
+ * No transaction is held while the LLM generates, which takes minutes. The details are read and the review
+ * is saved in their own short transactions.
+ */
+@Service
+@Slf4j
+public class InterviewReviewGenerator {
+
+    private final AiInterviewReviewService aiInterviewReviewService;
+    private final InterviewRepository interviewRepository;
+    private final InterviewMapper interviewMapper;
+    private final InterviewReviewStreamRegistry interviewReviewStreamRegistry;
+    private final boolean streamingEnabled;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    public InterviewReviewGenerator(
+            AiInterviewReviewService aiInterviewReviewService,
+            InterviewRepository interviewRepository,
+            InterviewMapper interviewMapper,
+            InterviewReviewStreamRegistry interviewReviewStreamRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${interview.review.streaming.enabled:true}") boolean streamingEnabled) {
+        this.aiInterviewReviewService = aiInterviewReviewService;
+        this.interviewRepository = interviewRepository;
+        this.interviewMapper = interviewMapper;
+        this.interviewReviewStreamRegistry = interviewReviewStreamRegistry;
+        this.streamingEnabled = streamingEnabled;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @throws ResourceNotFoundException if the interview no longer exists
+     * @throws RuntimeException if the review could not be generated, for the caller to retry
+     */
+    public void generateAndSaveReview(UUID interviewId) {
+        InterviewDetailsResponse interviewDetails = readTransaction.execute(status -> loadInterviewDetails(interviewId));
+
+        log.info("Starting review generation for interview: {}", interviewId);
+
+        String review = streamingEnabled
+                ? streamReview(interviewId, interviewDetails)
+                : aiInterviewReviewService.reviewInterview(interviewDetails);
+
+        writeTransaction.executeWithoutResult(status -> {
+            if (interviewRepository.updateCandidateReview(interviewId, review) == 0) {
+                throw new ResourceNotFoundException(String.format("Interview with ID %s not found", interviewId));
+            }
+        });
+        // Only after the commit, so admins are never told about a review that was rolled back
+        interviewReviewStreamRegistry.complete(interviewId, review);
+
+        log.info("Successfully generated and saved review for interview: {}", interviewId);
+    }
+
+    private InterviewDetailsResponse loadInterviewDetails(UUID interviewId) {
+        Interview interview = interviewRepository.findById(interviewId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        String.format("Interview with ID %s not found", interviewId)
+                ));
+
+        InterviewDetailsResponse interviewDetails = interviewMapper.toInterviewDetailsResponse(interview);
+        interviewDetails.getQuestions().sort(Comparator.comparing(QuestionDetailsResponse::getQuestionOrder));
+        return interviewDetails;
+    }
+
+    /**
+     * Relays the chunks to admins watching the review while collecting them on the worker thread,
+     * which is blocked for the whole generation as with the non-streaming call
+     */
+    private String streamReview(UUID interviewId, InterviewDetailsResponse interviewDetails) {
+        StringBuilder review = aiInterviewReviewService.streamInterviewReview(interviewDetails)
+                .doOnNext(chunk -> interviewReviewStreamRegistry.append(interviewId, chunk))
+                .collect(StringBuilder::new, StringBuilder::append)
+                .block();
+
+        if (review == null || review.isEmpty()) {
+            throw new IllegalStateException("Review stream completed without content");
+        }
+        return aiInterviewReviewService.stripMarkdownFence(review.toString().trim());
+    }
+}
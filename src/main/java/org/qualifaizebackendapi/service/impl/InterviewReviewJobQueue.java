@@ -0,0 +1,80 @@
+package org.qualifaizebackendapi.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.qualifaizebackendapi.repository.InterviewReviewJobJdbcRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Entry point for queueing review jobs. Jobs are rows in the database, so they survive restarts
+ * and are picked up by the workers of any node.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InterviewReviewJobQueue {
+
+    private final InterviewReviewJobJdbcRepository interviewReviewJobJdbcRepository;
+    private final InterviewReviewJobWorker interviewReviewJobWorker;
+
+    /**
+     * Queues a review of the interview. Within a transaction the job becomes visible on commit,
+     * so the local worker is woken up only then.
+     *
+     * @return whether a job was queued, false when the review is already being generated
+     */
+    public boolean enqueue(UUID interviewId) {
+        boolean queued = interviewReviewJobJdbcRepository.enqueue(interviewId);
+        if (!queued) {
+            log.info("Review of interview {} is already being generated", interviewId);
+            return false;
+        }
+
+        log.info("Queued review job for interview: {}", interviewId);
+        wakeUpWorker();
+        return true;
+    }
+
+    /**
+     * @return the number of failed jobs queued again
+     */
+    public int redriveFailed() {
+        int redriven = interviewReviewJobJdbcRepository.redriveFailed();
+        log.info("Queued {} failed review jobs again", redriven);
+        if (redriven > 0) {
+            wakeUpWorker();
+        }
+        return redriven;
+    }
+
+    /**
+     * Queues a batch review of every completed interview that has no review, e.g. after a provider outage.
+     *
+     * @return the number of queued jobs
+     */
+    public int enqueueUnreviewed() {
+        int queued = interviewReviewJobJdbcRepository.enqueueUnreviewed();
+        log.info("Queued batch review jobs for {} unreviewed interviews", queued);
+        if (queued > 0) {
+            wakeUpWorker();
+        }
+        return queued;
+    }
+
+    private void wakeUpWorker() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    interviewReviewJobWorker.wakeUp();
+                }
+            });
+        } else {
+            interviewReviewJobWorker.wakeUp();
+        }
+    }
+}
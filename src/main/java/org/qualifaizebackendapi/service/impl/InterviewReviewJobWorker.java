@@ -0,0 +1,238 @@
+package org.qualifaizebackendapi.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.qualifaizebackendapi.model.enums.LlmProvider;
+import org.qualifaizebackendapi.repository.InterviewReviewJobJdbcRepository;
+import org.qualifaizebackendapi.repository.InterviewReviewJobJdbcRepository.ClaimedJob;
+import org.qualifaizebackendapi.service.AiInterviewReviewService;
+import org.qualifaizebackendapi.utils.TokenBucket;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Claims queued review jobs and runs them on the review executor, at most
+ * {@code interview.review.jobs.workers} at a time on this node. Every node polls the same table, so
+ * adding nodes adds workers. Failed attempts are retried with exponential backoff until
+ * {@code max-attempts}; jobs of a node that stopped mid-review are taken over once their lease expires.
+ * <p>
+ * Batch jobs from a catch-up of unreviewed interviews only get the workers regular jobs leave free, at most
+ * {@code interview.review.batch.concurrency} of them, and are started no faster than the requests per minute
+ * allowed for the provider of the review model.
+ */
+@Service
+@Slf4j
+public class InterviewReviewJobWorker {
+
+    private static final int MAX_BACKOFF_DOUBLINGS = 20;
+
+    private final InterviewReviewJobJdbcRepository interviewReviewJobJdbcRepository;
+    private final InterviewReviewGenerator interviewReviewGenerator;
+    private final InterviewReviewStreamRegistry interviewReviewStreamRegistry;
+    private final AiInterviewReviewService aiInterviewReviewService;
+    private final Executor interviewReviewExecutor;
+    private final TaskScheduler taskScheduler;
+
+    private final String workerId = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+    private final boolean enabled;
+    private final Semaphore freeWorkers;
+    private final Semaphore freeBatchWorkers;
+    private final Map<LlmProvider, TokenBucket> batchRateLimits = new EnumMap<>(LlmProvider.class);
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public InterviewReviewJobWorker(
+            InterviewReviewJobJdbcRepository interviewReviewJobJdbcRepository,
+            InterviewReviewGenerator interviewReviewGenerator,
+            InterviewReviewStreamRegistry interviewReviewStreamRegistry,
+            AiInterviewReviewService aiInterviewReviewService,
+            @Qualifier("interviewReviewExecutor") Executor interviewReviewExecutor,
+            TaskScheduler taskScheduler,
+            @Value("${interview.review.jobs.enabled:true}") boolean enabled,
+            @Value("${interview.review.jobs.workers:4}") int workers,
+            @Value("${interview.review.jobs.max-attempts:5}") int maxAttempts,
+            @Value("${interview.review.jobs.lease:10m}") Duration lease,
+            @Value("${interview.review.jobs.initial-backoff:30s}") Duration initialBackoff,
+            @Value("${interview.review.jobs.max-backoff:30m}") Duration maxBackoff,
+            @Value("${interview.review.batch.concurrency:2}") int batchConcurrency,
+            @Value("${interview.review.batch.requests-per-minute.openai:30}") int openAiRequestsPerMinute,
+            @Value("${interview.review.batch.requests-per-minute.mistral:30}") int mistralRequestsPerMinute) {
+        this.interviewReviewJobJdbcRepository = interviewReviewJobJdbcRepository;
+        this.interviewReviewGenerator = interviewReviewGenerator;
+        this.interviewReviewStreamRegistry = interviewReviewStreamRegistry;
+        this.aiInterviewReviewService = aiInterviewReviewService;
+        this.interviewReviewExecutor = interviewReviewExecutor;
+        this.taskScheduler = taskScheduler;
+        this.enabled = enabled;
+        this.freeWorkers = new Semaphore(workers);
+        this.freeBatchWorkers = new Semaphore(batchConcurrency);
+        // Bursts are capped at a tenth of a minute's requests, so a batch starts evenly paced
+        this.batchRateLimits.put(LlmProvider.OPENAI,
+                new TokenBucket(openAiRequestsPerMinute, openAiRequestsPerMinute / 10));
+        this.batchRateLimits.put(LlmProvider.MISTRAL,
+                new TokenBucket(mistralRequestsPerMinute, mistralRequestsPerMinute / 10));
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Polls right away on the scheduler thread, so a queued review starts without waiting for the next poll.
+     * Claiming on the caller's thread could reuse the connection of a transaction that already committed.
+     */
+    public void wakeUp() {
+        if (enabled) {
+            taskScheduler.schedule(this::poll, Instant.now());
+        }
+    }
+
+    /**
+     * Claims regular jobs for all free workers, then batch jobs for the free workers left.
+     */
+    @Scheduled(fixedDelayString = "${interview.review.jobs.poll-interval:5s}")
+    public synchronized void poll() {
+        if (!enabled) {
+            return;
+        }
+
+        claimAndRun(false, freeWorkers.availablePermits());
+
+        int batchSlots = Math.min(freeWorkers.availablePermits(), freeBatchWorkers.availablePermits());
+        if (batchSlots > 0) {
+            TokenBucket rateLimit = batchRateLimits.get(aiInterviewReviewService.getProvider());
+            int permitted = rateLimit.tryAcquireUpTo(batchSlots);
+            if (permitted > 0) {
+                rateLimit.refund(permitted - claimAndRun(true, permitted));
+            }
+        }
+    }
+
+    /**
+     * @return the number of jobs started
+     */
+    private int claimAndRun(boolean batch, int limit) {
+        if (limit <= 0) {
+            return 0;
+        }
+
+        List<ClaimedJob> jobs;
+        try {
+            jobs = interviewReviewJobJdbcRepository.claim(workerId, batch, limit, lease);
+        } catch (Exception e) {
+            log.warn("Could not claim review jobs: {}", e.getMessage());
+            return 0;
+        }
+
+        int started = 0;
+        for (ClaimedJob job : jobs) {
+            acquireWorker(job);
+            try {
+                interviewReviewExecutor.execute(() -> process(job));
+                started++;
+            } catch (RejectedExecutionException e) {
+                releaseWorker(job);
+                interviewReviewJobJdbcRepository.unclaim(job.id());
+                log.warn("Review executor rejected job {}, returned it to the queue", job.id());
+            }
+        }
+        return started;
+    }
+
+    private void process(ClaimedJob job) {
+        try {
+            if (job.attempts() > maxAttempts) {
+                log.error("Review job {} for interview {} exceeded {} attempts", job.id(), job.interviewId(), maxAttempts);
+                update(job, () -> interviewReviewJobJdbcRepository.fail(
+                        job, workerId, "Gave up after " + maxAttempts + " attempts"));
+                return;
+            }
+
+            log.info("Processing review job {} for interview {}, attempt {}", job.id(), job.interviewId(), job.attempts());
+            interviewReviewStreamRegistry.open(job.interviewId());
+
+            interviewReviewGenerator.generateAndSaveReview(job.interviewId());
+            update(job, () -> interviewReviewJobJdbcRepository.complete(job, workerId));
+
+        } catch (Exception e) {
+            handleFailure(job, e);
+        } finally {
+            releaseWorker(job);
+            // Starts the next job right away instead of at the next poll, which keeps a batch moving
+            wakeUp();
+        }
+    }
+
+    private void acquireWorker(ClaimedJob job) {
+        freeWorkers.acquireUninterruptibly();
+        if (job.batch()) {
+            freeBatchWorkers.acquireUninterruptibly();
+        }
+    }
+
+    private void releaseWorker(ClaimedJob job) {
+        if (job.batch()) {
+            freeBatchWorkers.release();
+        }
+        freeWorkers.release();
+    }
+
+    private void handleFailure(ClaimedJob job, Exception e) {
+        if (job.attempts() >= maxAttempts) {
+            log.error("Review job {} for interview {} failed permanently after {} attempts",
+                    job.id(), job.interviewId(), job.attempts(), e);
+            interviewReviewStreamRegistry.fail(job.interviewId(), "Review generation failed");
+            update(job, () -> interviewReviewJobJdbcRepository.fail(job, workerId, e.getMessage()));
+            return;
+        }
+
+        Duration delay = backoff(job.attempts(), initialBackoff, maxBackoff);
+        log.warn("Review job {} for interview {} failed on attempt {}, retrying in {}s: {}",
+                job.id(), job.interviewId(), job.attempts(), delay.toSeconds(), e.getMessage());
+        interviewReviewStreamRegistry.fail(job.interviewId(),
+                "Review generation failed, retrying in " + delay.toSeconds() + " seconds");
+        update(job, () -> interviewReviewJobJdbcRepository.retryAt(
+                job, workerId, OffsetDateTime.now().plus(delay), e.getMessage()));
+    }
+
+    private void update(ClaimedJob job, BooleanSupplier transition) {
+        try {
+            if (!transition.getAsBoolean()) {
+                // The lease expired and another attempt took the job over, that attempt records the outcome
+                log.info("Review job {} is no longer held by attempt {}, leaving its status alone", job.id(), job.attempts());
+            }
+        } catch (Exception e) {
+            // The job stays claimed and is retried once its lease expires
+            log.error("Could not update status of review job {}: {}", job.id(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Delay before the next attempt: the initial backoff doubled after every failed attempt, capped at the
+     * maximum, plus up to 20% jitter so jobs that failed together during an outage do not retry together.
+     */
+    static Duration backoff(int failedAttempts, Duration initialBackoff, Duration maxBackoff) {
+        int doublings = Math.min(Math.max(0, failedAttempts - 1), MAX_BACKOFF_DOUBLINGS);
+        long delayMillis = Math.min(initialBackoff.toMillis() << doublings, maxBackoff.toMillis());
+        long jitterMillis = ThreadLocalRandom.current().nextLong(delayMillis / 5 + 1);
+        return Duration.ofMillis(delayMillis + jitterMillis);
+    }
+}
@@ -0,0 +1,260 @@
+package org.qualifaizebackendapi.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Relays reviews that are being generated to admins watching them over server-sent events.
+ * Every review keeps the text generated so far, so an admin who subscribes late first receives
+ * that text as one chunk and then the following chunks as they arrive.
+ * <p>
+ * Events are {@code chunk} with a piece of the raw review, {@code complete} with the final stored
+ * review, and {@code error} when generation failed.
+ */
+@Service
+@Slf4j
+public class InterviewReviewStreamRegistry {
+
+    static final String CHUNK_EVENT = "chunk";
+    static final String COMPLETE_EVENT = "complete";
+    static final String ERROR_EVENT = "error";
+
+    private final Map<UUID, ReviewStream> streams = new ConcurrentHashMap<>();
+    private final Executor streamExecutor;
+    private final long emitterTimeoutMillis;
+    private final int maxPendingEvents;
+
+    public InterviewReviewStreamRegistry(
+            @Qualifier("reviewStreamExecutor") Executor streamExecutor,
+            @Value("${interview.review.stream-timeout:5m}") Duration emitterTimeout,
+            @Value("${interview.review.stream-max-pending-events:1000}") int maxPendingEvents) {
+        this.streamExecutor = streamExecutor;
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+        this.maxPendingEvents = maxPendingEvents;
+    }
+
+    /**
+     * Registers a review that is about to be generated, so admins can subscribe before the first chunk.
+     */
+    public void open(UUID interviewId) {
+        streams.putIfAbsent(interviewId, new ReviewStream());
+    }
+
+    public void append(UUID interviewId, String chunk) {
+        ReviewStream stream = streams.get(interviewId);
+        if (stream != null && chunk != null && !chunk.isEmpty()) {
+            stream.append(chunk);
+        }
+    }
+
+    public void complete(UUID interviewId, String review) {
+        ReviewStream stream = streams.remove(interviewId);
+        if (stream != null) {
+            stream.finish(COMPLETE_EVENT, review);
+        }
+    }
+
+    public void fail(UUID interviewId, String message) {
+        ReviewStream stream = streams.remove(interviewId);
+        if (stream != null) {
+            stream.finish(ERROR_EVENT, message);
+        }
+    }
+
+    /**
+     * Subscribes to the review of the interview if it is being generated.
+     *
+     * @return the emitter, or null when no review is being generated for the interview
+     */
+    public SseEmitter subscribe(UUID interviewId) {
+        ReviewStream stream = streams.get(interviewId);
+        if (stream == null) {
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        return stream.subscribe(emitter) ? emitter : null;
+    }
+
+    /**
+     * Emitter that sends an already stored review as a single {@code complete} event.
+     */
+    public SseEmitter completed(String review) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        try {
+            emitter.send(SseEmitter.event().name(COMPLETE_EVENT).data(review));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * Holds the review text and the subscribers. Appends only queue events under the lock; the blocking
+     * sends run on the stream executor, so the thread consuming the LLM output never waits for a client.
+     */
+    private class ReviewStream {
+
+        private final StringBuilder text = new StringBuilder();
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private boolean finished;
+
+        synchronized boolean subscribe(SseEmitter emitter) {
+            if (finished) {
+                return false;
+            }
+
+            Subscriber subscriber = new Subscriber(emitter);
+            emitter.onCompletion(() -> remove(subscriber));
+            emitter.onTimeout(() -> remove(subscriber));
+            emitter.onError(e -> remove(subscriber));
+
+            if (text.isEmpty() || subscriber.offer(new StreamEvent(CHUNK_EVENT, text.toString(), false))) {
+                subscribers.add(subscriber);
+            }
+            return true;
+        }
+
+        synchronized void append(String chunk) {
+            text.append(chunk);
+            StreamEvent event = new StreamEvent(CHUNK_EVENT, chunk, false);
+            subscribers.removeIf(subscriber -> !subscriber.offer(event));
+        }
+
+        synchronized void finish(String eventName, String data) {
+            finished = true;
+            StreamEvent event = new StreamEvent(eventName, data, true);
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(event);
+            }
+            subscribers.clear();
+        }
+
+        private void remove(Subscriber subscriber) {
+            subscriber.close();
+            subscribers.remove(subscriber);
+        }
+    }
+
+    private record StreamEvent(String name, String data, boolean last) {
+    }
+
+    /**
+     * Sends the events of one admin in order, at most one drain running at a time. An admin whose queue
+     * reaches {@code interview.review.stream-max-pending-events} is too slow to follow and is dropped.
+     */
+    private class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<StreamEvent> pending = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+        private boolean fellBehind;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * @return false when the subscriber no longer takes events
+         */
+        boolean offer(StreamEvent event) {
+            synchronized (this) {
+                if (closed) {
+                    return false;
+                }
+                if (pending.size() >= maxPendingEvents) {
+                    log.debug("Dropping review stream subscriber with {} pending events", pending.size());
+                    pending.clear();
+                    closed = true;
+                    fellBehind = true;
+                } else {
+                    pending.add(event);
+                    closed = event.last();
+                }
+                if (draining) {
+                    return !closed;
+                }
+                draining = true;
+            }
+
+            try {
+                streamExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                log.debug("Dropping review stream subscriber, no thread to send on: {}", e.getMessage());
+                synchronized (this) {
+                    closed = true;
+                    draining = false;
+                }
+                emitter.completeWithError(e);
+                return false;
+            }
+            return !closed;
+        }
+
+        synchronized void close() {
+            closed = true;
+            pending.clear();
+        }
+
+        private void drain() {
+            while (true) {
+                StreamEvent event;
+                boolean dropped;
+                synchronized (this) {
+                    event = pending.poll();
+                    dropped = fellBehind;
+                    if (event == null) {
+                        draining = false;
+                    }
+                }
+
+                if (event == null) {
+                    if (dropped) {
+                        emitter.completeWithError(new IllegalStateException("Review stream subscriber fell behind"));
+                    }
+                    return;
+                }
+
+                if (!send(emitter, event.name(), event.data())) {
+                    close();
+                    synchronized (this) {
+                        draining = false;
+                    }
+                    return;
+                }
+                if (event.last()) {
+                    emitter.complete();
+                }
+            }
+        }
+    }
+
+    // A failed send means the client went away, the emitter is completed and dropped
+    private static boolean send(SseEmitter emitter, String eventName, String data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data == null ? "" : data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping review stream subscriber: {}", e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
@@ -8,8 +8,10 @@ import org.qualifaizebackendapi.DTO.QuestionDetailsDTO;
 import org.qualifaizebackendapi.DTO.request.interview.CreateInterviewRequest;
 import org.qualifaizebackendapi.DTO.response.interview.AssignedInterviewResponse;
 import org.qualifaizebackendapi.DTO.response.interview.InterviewDetailsResponse;
+import org.qualifaizebackendapi.DTO.response.interview.InterviewPageResponse;
 import org.qualifaizebackendapi.DTO.response.interview.ChangeInterviewStatusResponse;
 import org.qualifaizebackendapi.DTO.response.interview.CreateInterviewResponse;
+import org.qualifaizebackendapi.DTO.response.interview.ReviewJobRedriveResponse;
 import org.qualifaizebackendapi.DTO.response.interview.question.QuestionDetailsResponse;
 import org.qualifaizebackendapi.DTO.response.interview.question.QuestionToAsk;
 import org.qualifaizebackendapi.DTO.response.interview.question.SubmitAnswerResponse;
@@ -18,16 +20,19 @@ import org.qualifaizebackendapi.mapper.InterviewMapper;
 import org.qualifaizebackendapi.mapper.QuestionMapper;
 import org.qualifaizebackendapi.model.Document;
 import org.qualifaizebackendapi.model.Interview;
+import org.qualifaizebackendapi.model.InterviewPerformanceStats;
 import org.qualifaizebackendapi.model.Question;
 import org.qualifaizebackendapi.model.User;
 import org.qualifaizebackendapi.model.enums.InterviewStatus;
 import org.qualifaizebackendapi.model.enums.Role;
+import org.qualifaizebackendapi.repository.InterviewListingJdbcRepository;
 import org.qualifaizebackendapi.repository.InterviewRepository;
 import org.qualifaizebackendapi.repository.QuestionRepository;
 import org.qualifaizebackendapi.service.*;
 import org.qualifaizebackendapi.utils.InterviewProgressCalculator;
 import org.qualifaizebackendapi.utils.SecurityUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.*;
 
@@ -36,11 +41,14 @@ import java.util.*;
 @Slf4j
 public class InterviewServiceImpl implements InterviewService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PdfService pdfService;
     private final UserService userService;
     private final QuestionService questionService;
 
-    private final AsyncInterviewReviewService asyncInterviewReviewService;
+    private final InterviewReviewJobQueue interviewReviewJobQueue;
+    private final InterviewReviewStreamRegistry interviewReviewStreamRegistry;
 
     private final EntityManager em;
 
@@ -49,6 +57,7 @@ public class InterviewServiceImpl implements InterviewService {
 
     private final InterviewRepository interviewRepository;
     private final QuestionRepository questionRepository;
+    private final InterviewListingJdbcRepository interviewListingJdbcRepository;
 
     @Override
     public CreateInterviewResponse createInterview(CreateInterviewRequest request) {
@@ -56,7 +65,7 @@ public class InterviewServiceImpl implements InterviewService {
 
         Document targetDocument = pdfService.findDocumentByIdOrThrow(request.getDocumentId());
         User assignedUser = userService.fetchUserOrThrow(request.getAssignedToUserId());
-        User creatorUser = SecurityUtils.getCurrentUser();
+        User creatorUser = userService.getCurrentUserReference();
 
         Interview newInterview = interviewMapper.toInterviewFromCreateInterviewRequest(
                 request, targetDocument, creatorUser, assignedUser
@@ -111,6 +120,35 @@ public class InterviewServiceImpl implements InterviewService {
         return response;
     }
 
+    @Override
+    public InterviewPageResponse getInterviewsWithQuestionsPage(String cursor, int size, InterviewStatus status) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        UUID currentUserId = SecurityUtils.getCurrentUserId();
+        boolean isAdmin = SecurityUtils.hasRole(Role.ADMIN);
+        InterviewListingJdbcRepository.Cursor after = cursor != null
+                ? InterviewListingJdbcRepository.Cursor.decode(cursor)
+                : null;
+
+        log.info("Fetching page of {} interviews with questions for user: {} (Admin: {}), status filter: {}",
+                size, currentUserId, isAdmin, status);
+
+        // One extra row tells whether there is a next page
+        List<InterviewDetailsResponse> interviews = interviewListingJdbcRepository.findPage(
+                isAdmin ? null : currentUserId, status, after, size + 1);
+
+        String nextCursor = null;
+        if (interviews.size() > size) {
+            interviews = interviews.subList(0, size);
+            InterviewDetailsResponse last = interviews.getLast();
+            nextCursor = new InterviewListingJdbcRepository.Cursor(last.getCreatedAt(), last.getInterviewId()).encode();
+        }
+
+        return new InterviewPageResponse(interviews, nextCursor);
+    }
+
     @Override
     public ChangeInterviewStatusResponse updateInterviewStatus(UUID interviewId, InterviewStatus newStatus) {
         log.info("Updating interview {} status to: {}", interviewId, newStatus);
@@ -119,6 +157,10 @@ public class InterviewServiceImpl implements InterviewService {
         interview.setStatus(newStatus);
         Interview updatedInterview = interviewRepository.saveAndFlush(interview);
 
+        if (updatedInterview.isCompleted() || updatedInterview.getStatus() == InterviewStatus.CANCELLED) {
+            questionService.discardPrefetchedQuestion(interviewId);
+        }
+
         log.info("Successfully updated interview {} status to: {}", interviewId, newStatus);
 
         return new ChangeInterviewStatusResponse(updatedInterview.getId(), updatedInterview.getStatus());
@@ -141,41 +183,102 @@ public class InterviewServiceImpl implements InterviewService {
     public SubmitAnswerResponse submitAnswer(UUID questionId, String userAnswer) {
         log.info("Processing answer submission for question: {} with answer: {}", questionId, userAnswer);
 
+        // Taken before the interview is read, so concurrent answers update its aggregate one after the other
+        interviewRepository.lockInterviewByQuestionId(questionId);
+
         Question question = questionService.addUserSubmitAnswer(questionId, userAnswer);
 
         SubmitAnswerResponse response = questionMapper.toSubmitAnswerResponse(question, userAnswer);
         response.setCorrect(question.isSubmittedAnswerCorrect());
 
-        int interviewProgress = calculateInterviewProgress(question.getInterview());
+        InterviewPerformanceStats performanceStats = recordAnswerInPerformanceStats(question);
+        int interviewProgress = InterviewProgressCalculator.calculateProgress(performanceStats);
         response.setCurrentProgress(interviewProgress);
 
-        if (interviewProgress >= 100) completeInterviewAndGenerateReview(questionId);
+        if (interviewProgress >= 100) {
+            completeInterviewAndGenerateReview(questionId);
+        } else {
+            questionService.prefetchNextQuestion(question.getInterview().getId());
+        }
 
         log.info("Answer submitted for question {}: {} (Correct: {})", questionId, userAnswer, response.isCorrect());
 
         return response;
     }
 
+    @Override
+    public SseEmitter streamInterviewReview(UUID interviewId) {
+        SecurityUtils.requireAdmin("watching interview reviews");
+
+        SseEmitter emitter = interviewReviewStreamRegistry.subscribe(interviewId);
+        if (emitter != null) {
+            log.info("Admin subscribed to the review being generated for interview: {}", interviewId);
+            return emitter;
+        }
+
+        Interview interview = fetchInterviewOrThrow(interviewId);
+
+        if (interview.getCandidateReview() == null) {
+            throw new ResourceNotFoundException("No review is available or being generated on this node for interview: " + interviewId);
+        }
+        return interviewReviewStreamRegistry.completed(interview.getCandidateReview());
+    }
+
+    @Override
+    public ReviewJobRedriveResponse redriveReviewJobs(UUID interviewId) {
+        SecurityUtils.requireAdmin("re-driving interview reviews");
+
+        if (interviewId == null) {
+            return new ReviewJobRedriveResponse(interviewReviewJobQueue.redriveFailed());
+        }
+
+        Interview interview = fetchInterviewOrThrow(interviewId);
+        if (!interview.isCompleted()) {
+            throw new IllegalArgumentException("Only completed interviews can be reviewed");
+        }
+
+        log.info("Re-driving review generation for interview: {}", interviewId);
+        return new ReviewJobRedriveResponse(interviewReviewJobQueue.enqueue(interviewId) ? 1 : 0);
+    }
+
+    @Override
+    public ReviewJobRedriveResponse queueMissingReviews() {
+        SecurityUtils.requireAdmin("batch reviewing interviews");
+
+        return new ReviewJobRedriveResponse(interviewReviewJobQueue.enqueueUnreviewed());
+    }
+
     private void completeInterviewAndGenerateReview(UUID questionId) {
         Interview interview = this.interviewRepository.findInterviewByQuestionId(questionId);
 
         ChangeInterviewStatusResponse newStatus = this.updateInterviewStatus(interview.getId(), InterviewStatus.COMPLETED);
         interview.setStatus(newStatus.getInterviewStatus());
 
-        InterviewDetailsResponse interviewDetails = this.getInterviewsWithQuestions(interview.getId())
-                .stream()
-                .findFirst()
-                .orElseThrow(() -> new ResourceNotFoundException("Interview not found"));
-
-        log.info("Interview completed, triggering async review generation for interview: {}", interview.getId());
-        asyncInterviewReviewService.generateAndSaveReview(interview, interviewDetails);
+        log.info("Interview completed, queueing review generation for interview: {}", interview.getId());
+        interviewReviewJobQueue.enqueue(interview.getId());
     }
 
-    private Integer calculateInterviewProgress(Interview interview) {
-        List<QuestionDetailsDTO> answeredQuestions = questionRepository
-                .findQuestionsDetailsByInterviewId(interview.getId());
+    /**
+     * Adds the answer to the interview's running aggregate. Interviews without one yet get it rebuilt
+     * from their answered questions once.
+     */
+    private InterviewPerformanceStats recordAnswerInPerformanceStats(Question question) {
+        Interview interview = question.getInterview();
+        InterviewPerformanceStats performanceStats = interview.getPerformanceStats();
+
+        if (performanceStats == null) {
+            List<QuestionDetailsDTO> answeredQuestions = questionRepository
+                    .findQuestionsDetailsByInterviewId(interview.getId());
+            performanceStats = InterviewPerformanceStats.from(answeredQuestions);
+        } else {
+            performanceStats.recordAnswer(question.getDifficulty(), question.getSectionTitle(), question.getSubmittedAnswer(),
+                    question.isSubmittedAnswerCorrect(), question.getAnswerTimeInMillis());
+        }
+
+        interview.setPerformanceStats(performanceStats);
+        interviewRepository.saveAndFlush(interview);
 
-        return InterviewProgressCalculator.calculateProgress(answeredQuestions);
+        return performanceStats;
     }
 
     private Interview fetchInterviewOrThrow(UUID interviewId) {
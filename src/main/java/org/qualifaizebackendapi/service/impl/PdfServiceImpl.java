@@ -3,27 +3,30 @@ package org.qualifaizebackendapi.service.impl;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.qualifaizebackendapi.DTO.response.pdf.DocumentIngestionJobResponse;
 import org.qualifaizebackendapi.DTO.response.pdf.UploadedPdfResponse;
 import org.qualifaizebackendapi.DTO.response.pdf.UploadedPdfResponseWithConcatenatedContent;
 import org.qualifaizebackendapi.exception.DuplicateException;
 import org.qualifaizebackendapi.exception.ResourceNotFoundException;
+import org.qualifaizebackendapi.exception.ServiceBusyException;
 import org.qualifaizebackendapi.mapper.PdfMapper;
 import org.qualifaizebackendapi.model.Document;
+import org.qualifaizebackendapi.model.DocumentIngestionJob;
 import org.qualifaizebackendapi.model.Subsection;
+import org.qualifaizebackendapi.repository.DocumentIngestionJobRepository;
 import org.qualifaizebackendapi.repository.PdfRepository;
+import org.qualifaizebackendapi.repository.SubsectionRepository;
 import org.qualifaizebackendapi.service.PdfService;
-import org.qualifaizebackendapi.utils.SecurityUtils;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.http.MediaType;
+import org.qualifaizebackendapi.service.UserService;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 
 @Service
@@ -31,8 +34,13 @@ import java.util.*;
 @Slf4j
 public class PdfServiceImpl implements PdfService {
 
-    private final RestClient documentParserRestClient;
     private final PdfRepository pdfRepository;
+    private final SubsectionRepository subsectionRepository;
+    private final DocumentIngestionJobRepository documentIngestionJobRepository;
+    private final DocumentIngestionService documentIngestionService;
+    private final AsyncDocumentIngestionService asyncDocumentIngestionService;
+    private final TableOfContentsService tableOfContentsService;
+    private final UserService userService;
     private final PdfMapper pdfMapper;
 
     @Override
@@ -44,13 +52,16 @@ public class PdfServiceImpl implements PdfService {
 
         try {
             validateUploadedFile(file);
-            Document documentWithSubsections = callDocumentParserService(file);
-            documentWithSubsections.setUploadedByUser(SecurityUtils.getCurrentUser());
-            documentWithSubsections.setSecondaryFileName(secondaryFileName);
-            documentWithSubsections = pdfRepository.save(documentWithSubsections);
 
-            this.logDocumentSaveSuccess(documentWithSubsections);
-            return pdfMapper.toUploadedPdfResponse(this.findDocumentByIdOrThrow(documentWithSubsections.getId()));
+            Document document = new Document();
+            document.setFileName(file.getOriginalFilename());
+            document.setSecondaryFileName(secondaryFileName);
+            document.setUploadedByUser(userService.getCurrentUserReference());
+
+            Document savedDocument = documentIngestionService.parseAndSaveDocument(file.getResource(), document);
+
+            this.logDocumentSaveSuccess(savedDocument);
+            return pdfMapper.toUploadedPdfResponse(savedDocument);
 
         } catch (Exception error) {
             log.error("PDF upload failed for file: {} - {}", file.getOriginalFilename(), error.getMessage(), error);
@@ -58,15 +69,56 @@ public class PdfServiceImpl implements PdfService {
         }
     }
 
+    @Override
+    public DocumentIngestionJobResponse submitIngestionJob(MultipartFile file, String secondaryFileName) {
+        log.info("Queueing PDF ingestion job for file: {} with secondary name: {}",
+                file.getOriginalFilename(), secondaryFileName);
+
+        validateUniqueSecondaryFileName(secondaryFileName);
+        validateUploadedFile(file);
+
+        Path pdfFile = storeUploadedFile(file);
+
+        DocumentIngestionJob job = new DocumentIngestionJob();
+        job.setFileName(file.getOriginalFilename());
+        job.setSecondaryFileName(secondaryFileName);
+        job.setUploadedByUser(userService.getCurrentUserReference());
+        DocumentIngestionJob savedJob = documentIngestionJobRepository.save(job);
+
+        try {
+            asyncDocumentIngestionService.ingestDocument(savedJob.getId(), pdfFile);
+        } catch (TaskRejectedException e) {
+            log.warn("Ingestion queue is full, rejecting job for file: {}", file.getOriginalFilename());
+            documentIngestionJobRepository.delete(savedJob);
+            deleteQuietly(pdfFile);
+            throw new ServiceBusyException("Too many documents are being processed, please try again later");
+        }
+
+        log.info("Queued ingestion job {} for file: {}", savedJob.getId(), savedJob.getFileName());
+        return pdfMapper.toDocumentIngestionJobResponse(savedJob);
+    }
+
+    @Override
+    public DocumentIngestionJobResponse getIngestionJob(UUID jobId) {
+        DocumentIngestionJob job = documentIngestionJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        String.format("Ingestion job with ID %s not found", jobId)
+                ));
+
+        return pdfMapper.toDocumentIngestionJobResponse(job);
+    }
+
     @Override
     public UploadedPdfResponseWithConcatenatedContent getConcatenatedContentById(UUID documentId, String subsectionTitle) {
         log.info("Retrieving concatenated content for document ID: {} and subsection: {}", documentId, subsectionTitle);
 
-        Document document = this.findDocumentByIdOrThrow(documentId);
-        Subsection chosenSubsection = this.findSubsectionByTitleInDocument(document.getSubsections(), subsectionTitle);
-        StringBuilder allContent = new StringBuilder(chosenSubsection.getContent());
-        collectAllSubsectionContent(chosenSubsection.getChildren(), allContent);
-        return new UploadedPdfResponseWithConcatenatedContent(subsectionTitle, allContent.toString());
+        String concatenatedContent = subsectionRepository
+                .findConcatenatedContentByDocumentIdAndTitle(documentId, subsectionTitle)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        String.format("Subsection '%s' not found in document with ID: %s", subsectionTitle, documentId)
+                ));
+
+        return new UploadedPdfResponseWithConcatenatedContent(subsectionTitle, concatenatedContent);
     }
 
     @Override
@@ -95,6 +147,7 @@ public class PdfServiceImpl implements PdfService {
 
         Document document = findDocumentByIdOrThrow(documentId);
         pdfRepository.softDeleteById(document.getId());
+        tableOfContentsService.evict(document.getId());
 
         log.info("Document deleted successfully: {}", documentId);
     }
@@ -124,73 +177,29 @@ public class PdfServiceImpl implements PdfService {
         log.debug("File validation passed for: {}", filename);
     }
 
-    private Document callDocumentParserService(MultipartFile file) {
-        log.debug("Sending file to document parser service: {}", file.getOriginalFilename());
-
+    /**
+     * Copies the upload out of the request-scoped multipart storage, which is cleaned up once the request ends.
+     */
+    private Path storeUploadedFile(MultipartFile file) {
+        Path pdfFile = null;
         try {
-            MultiValueMap<String, Object> requestBody = createMultipartRequestBody(file);
-
-            Document response = documentParserRestClient
-                    .post()
-                    .uri("/parse")
-                    .contentType(MediaType.MULTIPART_FORM_DATA)
-                    .body(requestBody)
-                    .retrieve()
-                    .body(Document.class);
-
-            assignDocumentAndParent(response, response.getSubsections(), null);
-            String responseFilename = response != null ? response.getFileName() : "unknown";
-            log.info("Document parsing completed successfully: {}", responseFilename);
-
-            return response;
-
+            pdfFile = Files.createTempFile(AsyncDocumentIngestionService.PDF_FILE_PREFIX, ".pdf");
+            file.transferTo(pdfFile);
+            return pdfFile;
         } catch (IOException e) {
-            throw new RuntimeException("Failed to read file bytes from uploaded file", e);
-        } catch (RestClientResponseException e) {
-            String errorMessage = String.format("Document parser service error [%d]: %s",
-                    e.getStatusCode().value(), e.getResponseBodyAsString());
-            throw new RuntimeException(errorMessage, e);
-        } catch (RestClientException e) {
-            throw new RuntimeException("Document parser service request failed: " + e.getMessage(), e);
-        }
-    }
-
-    private MultiValueMap<String, Object> createMultipartRequestBody(MultipartFile file) throws IOException {
-        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-
-        ByteArrayResource fileResource = new ByteArrayResource(file.getBytes()) {
-            @Override
-            public String getFilename() {
-                return file.getOriginalFilename();
+            if (pdfFile != null) {
+                deleteQuietly(pdfFile);
             }
-        };
-
-        body.add("file", fileResource);
-        return body;
-    }
-
-    private void collectAllSubsectionContent(List<Subsection> subsections, StringBuilder contentBuilder) {
-        if (subsections == null || contentBuilder == null) return;
-
-        for (Subsection subsection : subsections) {
-            if (subsection.getContent() != null) contentBuilder.append(subsection.getContent());
-
-            //DFS
-            collectAllSubsectionContent(subsection.getChildren(), contentBuilder);
+            throw new RuntimeException("Failed to store uploaded PDF document", e);
         }
     }
 
-    private Subsection findSubsectionByTitleInDocument(List<Subsection> subsections, String title) {
-        if (subsections == null || title == null) return null;
-
-        for (Subsection subsection : subsections) {
-            if (title.equalsIgnoreCase(subsection.getTitle())) return subsection;
-
-            Subsection found = findSubsectionByTitleInDocument(subsection.getChildren(), title);
-            if (found != null) return found;
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete temporary ingestion file {}: {}", file, e.getMessage());
         }
-
-        return null;
     }
 
     private List<Subsection> buildSubsectionsHierarchy(List<Subsection> subsections) {
@@ -231,21 +240,6 @@ public class PdfServiceImpl implements PdfService {
         }
     }
 
-    private void assignDocumentAndParent(Document document, List<Subsection> subsections, Subsection parent) {
-        if (subsections == null || subsections.isEmpty()) {
-            return;
-        }
-
-        for (Subsection subsection : subsections) {
-            subsection.setDocument(document);
-            subsection.setParent(parent);
-
-            if (subsection.getChildren() != null && !subsection.getChildren().isEmpty()) {
-                assignDocumentAndParent(document, subsection.getChildren(), subsection);
-            }
-        }
-    }
-
     public Document findDocumentByIdOrThrow(UUID documentId) {
         Document document = pdfRepository.findActiveById(documentId)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -271,12 +265,10 @@ public class PdfServiceImpl implements PdfService {
     }
 
     private void logDocumentSaveSuccess(Document document) {
-        int subsectionCount = document.getSubsections() != null ? document.getSubsections().size() : 0;
-
         log.info("Document saved successfully:");
         log.info("  - Document ID: {}", document.getId());
         log.info("  - Original filename: {}", document.getFileName());
         log.info("  - Secondary filename: {}", document.getSecondaryFileName());
-        log.info("  - Total subsections: {}", subsectionCount);
+        log.info("  - Total subsections: {}", document.getSubsectionsCount());
     }
 }
\ No newline at end of file
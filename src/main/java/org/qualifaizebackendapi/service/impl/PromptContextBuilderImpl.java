@@ -0,0 +1,296 @@
+package org.qualifaizebackendapi.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.qualifaizebackendapi.DTO.QuestionDetailsDTO;
+import org.qualifaizebackendapi.model.InterviewPerformanceStats;
+import org.qualifaizebackendapi.model.InterviewPerformanceStats.DifficultyStats;
+import org.qualifaizebackendapi.model.InterviewPerformanceStats.RecentAnswer;
+import org.qualifaizebackendapi.model.enums.Difficulty;
+import org.qualifaizebackendapi.model.enums.PromptContextMode;
+import org.qualifaizebackendapi.service.PromptContextBuilder;
+import org.qualifaizebackendapi.utils.PromptNumberFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the previous-questions analysis given to the LLM for section selection and question generation.
+ * All statistics come from the interview's performance aggregate and every fragment is appended to one
+ * presized builder. In compact mode the question history is compressed to the configured token budget;
+ * the statistics above it still cover the whole interview.
+ */
+@Service
+@Slf4j
+public class PromptContextBuilderImpl implements PromptContextBuilder {
+
+    private static final String NO_PREVIOUS_QUESTIONS =
+            "No previously asked questions in this interview. Start with baseline difficulty questions.";
+
+    // Rough size of the fixed parts, used to presize the builder
+    private static final int SUMMARY_CHARS = 1024;
+    private static final int HISTORY_ENTRY_FIXED_CHARS = 96;
+
+    private final QuestionHistoryCompressor questionHistoryCompressor;
+    private final PromptContextMode mode;
+
+    public PromptContextBuilderImpl(
+            QuestionHistoryCompressor questionHistoryCompressor,
+            @Value("${interview.prompt-context.mode:FULL}") PromptContextMode mode) {
+        this.questionHistoryCompressor = questionHistoryCompressor;
+        this.mode = mode;
+
+        log.info("Building interview prompt context in {} mode", mode);
+    }
+
+    private record TimingAnalysis(double averageTimeSeconds, String paceDescription, boolean isRushed,
+                                  boolean isDeliberating) {
+    }
+
+    @Override
+    public String buildPreviousQuestionsAnalysis(List<QuestionDetailsDTO> answeredQuestions,
+                                                 InterviewPerformanceStats stats) {
+        if (answeredQuestions == null || answeredQuestions.isEmpty()) {
+            return NO_PREVIOUS_QUESTIONS;
+        }
+
+        int answeredCount = stats.getAnsweredCount();
+        int correctAnswers = stats.getCorrectCount();
+
+        double accuracyPercentage = stats.accuracyPercentage();
+        TimingAnalysis timingAnalysis = analyzeTimingPatterns(stats);
+
+        StringBuilder prompt = new StringBuilder(estimateLength(answeredQuestions));
+
+        prompt.append("INTERVIEW PERFORMANCE: ").append(answeredCount).append(" questions answered, ");
+        PromptNumberFormat.appendOneDecimal(prompt, accuracyPercentage);
+        prompt.append("% accuracy (").append(correctAnswers).append(" correct, ")
+                .append(answeredCount - correctAnswers).append(" incorrect). ");
+
+        prompt.append("TIMING: Average ");
+        PromptNumberFormat.appendOneDecimal(prompt, timingAnalysis.averageTimeSeconds);
+        prompt.append("s per question, ").append(timingAnalysis.paceDescription).append(" pace. ");
+
+        appendDifficultyGuidance(prompt, accuracyPercentage, timingAnalysis);
+
+        if (answeredCount >= 3) {
+            prompt.append("\n\nDIFFICULTY PATTERNS: ");
+            appendDifficultyPatternAnalysis(prompt, stats);
+            appendPerformanceTrend(prompt, stats);
+        }
+
+        prompt.append("\n\nQUESTION HISTORY:\n");
+        questionHistoryCompressor.appendHistory(prompt, answeredQuestions, mode == PromptContextMode.COMPACT);
+
+        if (answeredCount >= 4) {
+            prompt.append("\n\nANSWER PATTERNS: ");
+            appendAnswerPatternAnalysis(prompt, stats);
+        }
+
+        if (answeredCount >= 3) {
+            prompt.append("\n\nTIMING PATTERNS: ");
+            appendTimingPatternAnalysis(prompt, stats, timingAnalysis);
+        }
+
+        return prompt.toString();
+    }
+
+    private int estimateLength(List<QuestionDetailsDTO> answeredQuestions) {
+        int length = SUMMARY_CHARS;
+        for (QuestionDetailsDTO question : answeredQuestions) {
+            String questionText = question.getQuestionText();
+            length += HISTORY_ENTRY_FIXED_CHARS + (questionText == null ? 4 : questionText.length());
+        }
+        return length;
+    }
+
+    private TimingAnalysis analyzeTimingPatterns(InterviewPerformanceStats stats) {
+        if (stats.getTimedAnswerCount() == 0) {
+            return new TimingAnalysis(0.0, "unknown", false, false);
+        }
+
+        double averageSeconds = stats.averageAnswerTimeSeconds();
+
+        boolean isRushed = averageSeconds < 10;
+        boolean isDeliberating = averageSeconds > 120;
+
+        String paceDescription;
+        if (isRushed) {
+            paceDescription = "very fast (possibly guessing)";
+        } else if (isDeliberating) {
+            paceDescription = "very slow (thorough consideration)";
+        } else if (averageSeconds < 30) {
+            paceDescription = "fast (confident)";
+        } else if (averageSeconds < 60) {
+            paceDescription = "moderate (normal thinking)";
+        } else {
+            paceDescription = "slow (careful analysis)";
+        }
+
+        return new TimingAnalysis(averageSeconds, paceDescription, isRushed, isDeliberating);
+    }
+
+    private void appendDifficultyGuidance(StringBuilder prompt, double accuracyPercentage, TimingAnalysis timing) {
+        prompt.append("GUIDANCE: ");
+
+        if (accuracyPercentage >= 80) {
+            if (timing.isRushed) {
+                prompt.append("Excellent accuracy with fast responses - candidate very confident, increase complexity significantly. ");
+            } else if (timing.isDeliberating) {
+                prompt.append("Excellent accuracy but slow responses - candidate careful, moderate difficulty increase. ");
+            } else {
+                prompt.append("Excellent performance with good timing - increase difficulty and complexity. ");
+            }
+        } else if (accuracyPercentage >= 60) {
+            if (timing.isRushed) {
+                prompt.append("Good accuracy but rushing - may benefit from slightly harder questions to slow down thinking. ");
+            } else {
+                prompt.append("Good performance - maintain current difficulty with slight increases. ");
+            }
+        } else if (accuracyPercentage >= 40) {
+            if (timing.isDeliberating) {
+                prompt.append("Struggling despite careful consideration - use easier questions with clear explanations. ");
+            } else {
+                prompt.append("Moderate performance - focus on core concepts, avoid advanced topics. ");
+            }
+        } else {
+            if (timing.isRushed) {
+                prompt.append("Poor accuracy with fast responses - candidate likely guessing, use very basic questions. ");
+            } else {
+                prompt.append("Poor performance - use fundamental questions with detailed explanations. ");
+            }
+        }
+    }
+
+    private void appendPerformanceTrend(StringBuilder prompt, InterviewPerformanceStats stats) {
+        List<RecentAnswer> window = stats.getRecentAnswers();
+        int recentCount = Math.min(3, window.size());
+
+        long recentCorrect = 0;
+        long recentTotalTime = 0;
+        int recentTimedCount = 0;
+
+        for (int i = window.size() - recentCount; i < window.size(); i++) {
+            RecentAnswer answer = window.get(i);
+            if (answer.correct()) {
+                recentCorrect++;
+            }
+            if (answer.answerTimeInMillis() != null && answer.answerTimeInMillis() > 0) {
+                recentTotalTime += answer.answerTimeInMillis();
+                recentTimedCount++;
+            }
+        }
+
+        double recentAvgTime = averageSeconds(recentTotalTime, recentTimedCount);
+
+        if (recentCorrect == recentCount) {
+            prompt.append("TREND: Last ").append(recentCount).append(" answers all correct");
+            if (recentAvgTime < 20) {
+                prompt.append(" with fast responses - candidate very confident, ready for harder questions. ");
+            } else {
+                prompt.append(" - candidate improving, ready for moderate difficulty increase. ");
+            }
+        } else if (recentCorrect == 0) {
+            prompt.append("TREND: Last ").append(recentCount).append(" answers all wrong");
+            if (recentAvgTime > 60) {
+                prompt.append(" despite slow consideration - reduce difficulty significantly. ");
+            } else {
+                prompt.append(" - candidate struggling, reduce difficulty. ");
+            }
+        } else {
+            prompt.append("TREND: Mixed recent performance (")
+                    .append(recentCorrect).append("/").append(recentCount)
+                    .append(" correct) with ");
+            PromptNumberFormat.appendOneDecimal(prompt, recentAvgTime);
+            prompt.append("s average time - maintain current difficulty level. ");
+        }
+    }
+
+    private void appendTimingPatternAnalysis(StringBuilder prompt, InterviewPerformanceStats stats,
+                                             TimingAnalysis overall) {
+        int incorrectCount = stats.getAnsweredCount() - stats.getCorrectCount();
+
+        if (stats.getCorrectCount() > 0 && incorrectCount > 0) {
+            double avgCorrectTime = averageSeconds(stats.getCorrectAnswerTimeMillis(), stats.getCorrectTimedAnswerCount());
+            double avgIncorrectTime = averageSeconds(stats.getIncorrectAnswerTimeMillis(), stats.getIncorrectTimedAnswerCount());
+
+            if (avgCorrectTime > 0 && avgIncorrectTime > 0) {
+                if (avgCorrectTime < avgIncorrectTime * 0.7) {
+                    prompt.append("Correct answers are significantly faster (");
+                    PromptNumberFormat.appendOneDecimal(prompt, avgCorrectTime);
+                    prompt.append("s vs ");
+                    PromptNumberFormat.appendOneDecimal(prompt, avgIncorrectTime);
+                    prompt.append("s) - candidate confident when they know the answer. ");
+                } else if (avgIncorrectTime < avgCorrectTime * 0.7) {
+                    prompt.append("Incorrect answers are faster (");
+                    PromptNumberFormat.appendOneDecimal(prompt, avgIncorrectTime);
+                    prompt.append("s vs ");
+                    PromptNumberFormat.appendOneDecimal(prompt, avgCorrectTime);
+                    prompt.append("s) - candidate may be guessing when uncertain. ");
+                } else {
+                    prompt.append("Similar timing for correct and incorrect answers - consistent thinking process. ");
+                }
+            }
+        }
+
+        if (overall.isRushed) {
+            prompt.append("Overall very fast responses suggest confidence or impulsiveness. ");
+        } else if (overall.isDeliberating) {
+            prompt.append("Overall slow responses indicate careful consideration or uncertainty. ");
+        }
+    }
+
+    private void appendAnswerPatternAnalysis(StringBuilder prompt, InterviewPerformanceStats stats) {
+        int[] answerCounts = stats.getAnswerCounts();
+
+        int mostCommonIndex = -1;
+        for (int i = 0; i < answerCounts.length; i++) {
+            if (answerCounts[i] > 0 && (mostCommonIndex < 0 || answerCounts[i] > answerCounts[mostCommonIndex])) {
+                mostCommonIndex = i;
+            }
+        }
+
+        if (mostCommonIndex >= 0) {
+            double percentage = (double) answerCounts[mostCommonIndex] / stats.getAnsweredCount() * 100;
+
+            if (percentage > 50) {
+                prompt.append("Candidate favors option ").append((char) ('A' + mostCommonIndex)).append(" (");
+                PromptNumberFormat.appendNoDecimals(prompt, percentage);
+                prompt.append("% of answers) - avoid making this the correct answer too often. ");
+            } else {
+                prompt.append("Balanced answer distribution - good variety in question design. ");
+            }
+        }
+    }
+
+    private void appendDifficultyPatternAnalysis(StringBuilder prompt, InterviewPerformanceStats stats) {
+        Difficulty bestDifficulty = null;
+        double bestAccuracy = -1;
+
+        for (Map.Entry<Difficulty, DifficultyStats> entry : stats.getByDifficulty().entrySet()) {
+            DifficultyStats difficultyStats = entry.getValue();
+
+            double accuracy = (double) difficultyStats.getCorrectCount() / difficultyStats.getAnsweredCount() * 100;
+            double avgTime = averageSeconds(difficultyStats.getTotalAnswerTimeMillis(), difficultyStats.getTimedAnswerCount());
+
+            prompt.append(entry.getKey()).append(": ");
+            PromptNumberFormat.appendNoDecimals(prompt, accuracy);
+            prompt.append("% accuracy (");
+            PromptNumberFormat.appendOneDecimal(prompt, avgTime);
+            prompt.append("s avg) ");
+
+            if (accuracy > bestAccuracy) {
+                bestAccuracy = accuracy;
+                bestDifficulty = entry.getKey();
+            }
+        }
+
+        prompt.append("- Best performance on ").append(bestDifficulty == null ? Difficulty.MEDIUM : bestDifficulty)
+                .append(" questions. ");
+    }
+
+    private static double averageSeconds(long totalMillis, int count) {
+        return (count == 0 ? 0.0 : (double) totalMillis / count) / 1000.0;
+    }
+}
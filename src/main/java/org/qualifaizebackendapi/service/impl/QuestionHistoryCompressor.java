@@ -0,0 +1,162 @@
+package org.qualifaizebackendapi.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.qualifaizebackendapi.DTO.QuestionDetailsDTO;
+import org.qualifaizebackendapi.utils.PromptNumberFormat;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Writes the QUESTION HISTORY part of the prompt. Uncompressed, every question is written out in full.
+ * Compressed, only the last few questions keep their text; older ones become one short line each with
+ * their order, section, difficulty, result and time. When that still exceeds the token budget, the oldest
+ * summary lines are merged into a count and then fewer questions are kept verbatim.
+ * Answered questions do not change, so the token count of each line is estimated once and kept in memory.
+ */
+@Service
+public class QuestionHistoryCompressor {
+
+    private final TokenCountEstimator tokenCountEstimator;
+    private final Cache<String, Integer> lineTokens;
+    private final int verbatimQuestions;
+    private final int historyTokenBudget;
+
+    public QuestionHistoryCompressor(
+            TokenCountEstimator tokenCountEstimator,
+            MeterRegistry meterRegistry,
+            @Value("${interview.prompt-context.verbatim-questions:5}") int verbatimQuestions,
+            @Value("${interview.prompt-context.history-token-budget:1000}") int historyTokenBudget,
+            @Value("${interview.prompt-context.line-token-cache-size:20000}") long lineTokenCacheSize) {
+        this.tokenCountEstimator = tokenCountEstimator;
+        this.verbatimQuestions = Math.max(1, verbatimQuestions);
+        this.historyTokenBudget = historyTokenBudget;
+        this.lineTokens = Caffeine.newBuilder()
+                .maximumSize(lineTokenCacheSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, lineTokens, "historyLineTokens");
+    }
+
+    public void appendHistory(StringBuilder prompt, List<QuestionDetailsDTO> questions, boolean compress) {
+        if (!compress) {
+            appendVerbatim(prompt, questions);
+            return;
+        }
+
+        int size = questions.size();
+
+        String[] verbatimLines = new String[size];
+        int[] verbatimTokens = new int[size];
+        String[] summaryLines = new String[size];
+        int[] summaryTokens = new int[size];
+
+        // Questions from verbatimStart on keep their text, summaries from summaryStart to verbatimStart,
+        // and the ones before summaryStart are only counted
+        int verbatimStart = Math.max(0, size - verbatimQuestions);
+        int summaryStart = 0;
+
+        int usedTokens = 0;
+        for (int i = verbatimStart; i < size; i++) {
+            usedTokens += verbatimTokens(questions, i, verbatimLines, verbatimTokens);
+        }
+        for (int i = 0; i < verbatimStart; i++) {
+            usedTokens += summaryTokens(questions, i, summaryLines, summaryTokens);
+        }
+
+        // Recent questions matter most, so the oldest summaries are merged first and verbatim questions
+        // are only summarized once no summary lines are left
+        while (usedTokens > historyTokenBudget) {
+            if (summaryStart < verbatimStart) {
+                usedTokens -= summaryTokens[summaryStart];
+                summaryStart++;
+            } else if (verbatimStart < size - 1) {
+                usedTokens -= verbatimTokens[verbatimStart];
+                usedTokens += summaryTokens(questions, verbatimStart, summaryLines, summaryTokens);
+                verbatimStart++;
+            } else {
+                break;
+            }
+        }
+
+        if (summaryStart > 0) {
+            appendCountedQuestions(prompt, questions, summaryStart);
+        }
+        for (int i = summaryStart; i < verbatimStart; i++) {
+            prompt.append(summaryLines[i]).append('\n');
+        }
+        for (int i = verbatimStart; i < size; i++) {
+            prompt.append(verbatimLines[i]);
+            if (i < size - 1) {
+                prompt.append('\n');
+            }
+        }
+    }
+
+    private int verbatimTokens(List<QuestionDetailsDTO> questions, int index, String[] lines, int[] tokens) {
+        StringBuilder line = new StringBuilder();
+        appendVerbatimQuestion(line, index, questions.get(index));
+        lines[index] = line.toString();
+        tokens[index] = estimate(lines[index]);
+        return tokens[index];
+    }
+
+    private int summaryTokens(List<QuestionDetailsDTO> questions, int index, String[] lines, int[] tokens) {
+        StringBuilder line = new StringBuilder();
+        appendSummarizedQuestion(line, index, questions.get(index));
+        lines[index] = line.toString();
+        tokens[index] = estimate(lines[index]);
+        return tokens[index];
+    }
+
+    private int estimate(String line) {
+        return lineTokens.get(line, tokenCountEstimator::estimate);
+    }
+
+    private void appendVerbatim(StringBuilder prompt, List<QuestionDetailsDTO> questions) {
+        for (int i = 0; i < questions.size(); i++) {
+            appendVerbatimQuestion(prompt, i, questions.get(i));
+            if (i < questions.size() - 1) {
+                prompt.append('\n');
+            }
+        }
+    }
+
+    private static void appendVerbatimQuestion(StringBuilder prompt, int index, QuestionDetailsDTO question) {
+        prompt.append(index + 1).append(". Q: ").append(question.getQuestionText())
+                .append(" | Answer: ").append(question.getSubmittedAnswer())
+                .append(" | Correct: ").append(question.getCorrectOption())
+                .append(" | Result: ").append(question.isSubmittedAnswerCorrect() ? "CORRECT" : "INCORRECT")
+                .append(" | Time: ");
+        PromptNumberFormat.appendAnswerTime(prompt, question.getAnswerTimeInMillis());
+        prompt.append(" | Difficulty: ").append(question.getDifficulty());
+    }
+
+    private static void appendSummarizedQuestion(StringBuilder prompt, int index, QuestionDetailsDTO question) {
+        prompt.append(index + 1).append(". [");
+        prompt.append(question.getSectionTitle() == null ? "unknown section" : question.getSectionTitle());
+        prompt.append("] ").append(question.getDifficulty())
+                .append(' ').append(question.isSubmittedAnswerCorrect() ? "CORRECT" : "INCORRECT")
+                .append(' ');
+        PromptNumberFormat.appendAnswerTime(prompt, question.getAnswerTimeInMillis());
+    }
+
+    private static void appendCountedQuestions(StringBuilder prompt, List<QuestionDetailsDTO> questions, int count) {
+        int correct = 0;
+        for (int i = 0; i < count; i++) {
+            if (questions.get(i).isSubmittedAnswerCorrect()) {
+                correct++;
+            }
+        }
+
+        prompt.append(count == 1 ? "1." : "1-" + count + ".")
+                .append(" Earlier questions: ").append(correct).append(" correct, ")
+                .append(count - correct).append(" incorrect\n");
+    }
+}
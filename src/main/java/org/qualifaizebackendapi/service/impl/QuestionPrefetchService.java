@@ -0,0 +1,137 @@
+package org.qualifaizebackendapi.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.qualifaizebackendapi.DTO.response.interview.question.GenerateQuestionDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Keeps at most one speculatively generated question per interview.
+ * A prefetched question is only handed out when it was generated from exactly the same
+ * previous questions analysis that the caller would use, otherwise it is discarded.
+ */
+@Service
+@Slf4j
+public class QuestionPrefetchService {
+
+    private final AsyncQuestionGenerationService asyncQuestionGenerationService;
+    private final boolean prefetchEnabled;
+    // How long a request waits for a running prefetch before generating the question itself
+    private final Duration maxWait;
+    private final Cache<UUID, PrefetchedQuestion> prefetchedQuestions;
+
+    public QuestionPrefetchService(
+            AsyncQuestionGenerationService asyncQuestionGenerationService,
+            MeterRegistry meterRegistry,
+            @Value("${interview.question-prefetch.enabled:true}") boolean prefetchEnabled,
+            @Value("${interview.question-prefetch.max-wait:20s}") Duration maxWait,
+            @Value("${interview.question-prefetch.ttl:30m}") Duration ttl,
+            @Value("${interview.question-prefetch.max-size:10000}") long maxSize) {
+        this.asyncQuestionGenerationService = asyncQuestionGenerationService;
+        this.prefetchEnabled = prefetchEnabled;
+        this.maxWait = maxWait;
+        // Interviews that are abandoned after an answer never take their prefetch, so entries expire
+        this.prefetchedQuestions = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, prefetchedQuestions, "prefetchedQuestions");
+    }
+
+    private record PrefetchedQuestion(String previousQuestionsAnalysisText,
+                                      CompletableFuture<GenerateQuestionDTO> generatedQuestion) {
+    }
+
+    /**
+     * Starts generating the next question for the interview in the background once the current
+     * transaction commits, so the generation reads the interview as the caller left it.
+     * Replaces any prefetch that was started from different inputs. A replaced, discarded or expired
+     * prefetch only has its result dropped, a generation that is already running still finishes.
+     */
+    public void prefetch(UUID interviewId, String previousQuestionsAnalysisText) {
+        if (!prefetchEnabled) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    prefetchNow(interviewId, previousQuestionsAnalysisText);
+                }
+            });
+        } else {
+            prefetchNow(interviewId, previousQuestionsAnalysisText);
+        }
+    }
+
+    void prefetchNow(UUID interviewId, String previousQuestionsAnalysisText) {
+        prefetchedQuestions.asMap().compute(interviewId, (id, existing) -> {
+            if (existing != null && existing.previousQuestionsAnalysisText().equals(previousQuestionsAnalysisText)) {
+                return existing;
+            }
+
+            try {
+                log.debug("Prefetching next question for interview: {}", id);
+                return new PrefetchedQuestion(previousQuestionsAnalysisText,
+                        asyncQuestionGenerationService.generateQuestion(id, previousQuestionsAnalysisText));
+            } catch (TaskRejectedException e) {
+                log.warn("Question prefetch queue is full, skipping prefetch for interview: {}", id);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Returns the prefetched question if it was generated from the given inputs, waiting up to
+     * {@code interview.question-prefetch.max-wait} for it if generation is still running.
+     * The entry is consumed either way, an empty result means the caller generates the question.
+     */
+    public Optional<GenerateQuestionDTO> takePrefetched(UUID interviewId, String previousQuestionsAnalysisText) {
+        PrefetchedQuestion prefetched = prefetchedQuestions.asMap().remove(interviewId);
+
+        if (prefetched == null) {
+            return Optional.empty();
+        }
+
+        if (!prefetched.previousQuestionsAnalysisText().equals(previousQuestionsAnalysisText)) {
+            log.debug("Discarding stale prefetched question for interview: {}", interviewId);
+            return Optional.empty();
+        }
+
+        try {
+            GenerateQuestionDTO generatedQuestion = prefetched.generatedQuestion()
+                    .get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+            log.info("Serving prefetched question for interview: {}", interviewId);
+            return Optional.ofNullable(generatedQuestion);
+        } catch (TimeoutException e) {
+            log.warn("Prefetched question for interview: {} not ready after {}, generating it again", interviewId, maxWait);
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            log.warn("Prefetched question generation failed for interview: {} - {}", interviewId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void discard(UUID interviewId) {
+        prefetchedQuestions.invalidate(interviewId);
+    }
+}
@@ -0,0 +1,129 @@
+package org.qualifaizebackendapi.service.impl;
+
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Splits section content into windows of at most {@code interview.question-content.chunk-tokens} tokens.
+ * Windows are filled with whole paragraphs; only paragraphs that do not fit on their own are split
+ * between sentences, and only sentences that do not fit are cut by length.
+ */
+@Service
+public class SectionContentChunker {
+
+    private static final Pattern PARAGRAPH_BREAK = Pattern.compile("\\n\\s*\\n");
+    private static final Pattern SENTENCE_BREAK = Pattern.compile("(?<=[.!?])\\s+");
+
+    // Usual lower bound of characters per token, used to size cut pieces; pieces still over the limit are halved
+    private static final int MIN_CHARS_PER_TOKEN = 2;
+
+    private final TokenCountEstimator tokenCountEstimator;
+    private final int maxChunkTokens;
+
+    public SectionContentChunker(
+            TokenCountEstimator tokenCountEstimator,
+            @Value("${interview.question-content.chunk-tokens:800}") int maxChunkTokens) {
+        this.tokenCountEstimator = tokenCountEstimator;
+        this.maxChunkTokens = maxChunkTokens;
+    }
+
+    public record ContentChunk(String content, int tokenCount) {
+    }
+
+    public List<ContentChunk> chunk(String content) {
+        if (content == null || content.isBlank()) {
+            return List.of();
+        }
+
+        int tokenCount = tokenCountEstimator.estimate(content);
+        if (tokenCount <= maxChunkTokens) {
+            return List.of(new ContentChunk(content, tokenCount));
+        }
+
+        ChunkAccumulator chunks = new ChunkAccumulator();
+        for (String paragraph : PARAGRAPH_BREAK.split(content)) {
+            if (paragraph.isBlank()) {
+                continue;
+            }
+
+            int paragraphTokens = tokenCountEstimator.estimate(paragraph);
+            if (paragraphTokens <= maxChunkTokens) {
+                chunks.add(paragraph, paragraphTokens, "\n\n");
+                continue;
+            }
+
+            for (String sentence : SENTENCE_BREAK.split(paragraph)) {
+                int sentenceTokens = tokenCountEstimator.estimate(sentence);
+                if (sentenceTokens <= maxChunkTokens) {
+                    chunks.add(sentence, sentenceTokens, " ");
+                } else {
+                    addCutSentence(chunks, sentence);
+                }
+            }
+        }
+
+        return chunks.finish();
+    }
+
+    private void addCutSentence(ChunkAccumulator chunks, String sentence) {
+        int pieceLength = maxChunkTokens * MIN_CHARS_PER_TOKEN;
+        for (int start = 0; start < sentence.length(); start += pieceLength) {
+            addCutPiece(chunks, sentence.substring(start, Math.min(sentence.length(), start + pieceLength)));
+        }
+    }
+
+    private void addCutPiece(ChunkAccumulator chunks, String piece) {
+        int pieceTokens = tokenCountEstimator.estimate(piece);
+        int middle = piece.length() / 2;
+        if (middle > 0 && Character.isLowSurrogate(piece.charAt(middle))) {
+            middle--;
+        }
+
+        if (pieceTokens <= maxChunkTokens || middle == 0) {
+            chunks.add(piece, pieceTokens, "");
+            return;
+        }
+
+        addCutPiece(chunks, piece.substring(0, middle));
+        addCutPiece(chunks, piece.substring(middle));
+    }
+
+    /**
+     * Packs pieces into chunks in order, starting a new chunk when the next piece would exceed the limit
+     */
+    private class ChunkAccumulator {
+
+        private final List<ContentChunk> chunks = new ArrayList<>();
+        private final StringBuilder current = new StringBuilder();
+        private int currentTokens;
+
+        void add(String piece, int pieceTokens, String separator) {
+            if (!current.isEmpty() && currentTokens + pieceTokens > maxChunkTokens) {
+                flush();
+            }
+            if (!current.isEmpty()) {
+                current.append(separator);
+            }
+            current.append(piece);
+            currentTokens += pieceTokens;
+        }
+
+        List<ContentChunk> finish() {
+            flush();
+            return chunks;
+        }
+
+        private void flush() {
+            if (!current.isEmpty()) {
+                chunks.add(new ContentChunk(current.toString(), currentTokens));
+                current.setLength(0);
+                currentTokens = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package org.qualifaizebackendapi.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.qualifaizebackendapi.repository.SubsectionChunkJdbcRepository;
+import org.qualifaizebackendapi.repository.SubsectionChunkJdbcRepository.ChunkReference;
+import org.qualifaizebackendapi.service.PdfService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Picks the content a question is generated from. Instead of the whole subtree of the selected section, it
+ * sends a run of consecutive chunks of that subtree within {@code interview.question-content.token-budget}.
+ * The run starts on a rotation seeded by the interview and the section, so questions on a large section are
+ * spread over all of its content while the same interview state always gets the same content.
+ */
+@Service
+@Slf4j
+public class SectionContentSelector {
+
+    // Fractional part of the golden ratio, spreads successive starts evenly over the section
+    private static final double GOLDEN_RATIO_FRACTION = 0.6180339887498949;
+
+    private final SubsectionChunkJdbcRepository subsectionChunkJdbcRepository;
+    private final SectionContentChunker sectionContentChunker;
+    private final PdfService pdfService;
+    private final int tokenBudget;
+
+    public SectionContentSelector(
+            SubsectionChunkJdbcRepository subsectionChunkJdbcRepository,
+            SectionContentChunker sectionContentChunker,
+            PdfService pdfService,
+            @Value("${interview.question-content.token-budget:2400}") int tokenBudget) {
+        this.subsectionChunkJdbcRepository = subsectionChunkJdbcRepository;
+        this.sectionContentChunker = sectionContentChunker;
+        this.pdfService = pdfService;
+        this.tokenBudget = tokenBudget;
+    }
+
+    /**
+     * @param questionNumber number of questions already answered in the interview, moves the rotation forward
+     */
+    public String selectContent(UUID documentId, String sectionTitle, UUID interviewId, int questionNumber) {
+        List<ChunkReference> chunks = subsectionChunkJdbcRepository.findSectionChunks(documentId, sectionTitle);
+
+        if (chunks.isEmpty()) {
+            return selectFromConcatenatedContent(documentId, sectionTitle, interviewId, questionNumber);
+        }
+
+        int[] tokenCounts = new int[chunks.size()];
+        for (int i = 0; i < tokenCounts.length; i++) {
+            tokenCounts[i] = chunks.get(i).tokenCount();
+        }
+
+        int[] window = selectWindow(tokenCounts, rotationStart(tokenCounts.length, interviewId, sectionTitle, questionNumber), tokenBudget);
+
+        List<UUID> selectedIds = new ArrayList<>(window[1] - window[0]);
+        for (int i = window[0]; i < window[1]; i++) {
+            selectedIds.add(chunks.get(i).id());
+        }
+
+        log.debug("Selected chunks {}-{} of {} for section '{}' in document: {}",
+                window[0], window[1] - 1, chunks.size(), sectionTitle, documentId);
+
+        return String.join("\n\n", subsectionChunkJdbcRepository.findChunkContents(selectedIds));
+    }
+
+    /**
+     * Documents stored before chunking have no chunks, so their section content is chunked on the fly.
+     */
+    private String selectFromConcatenatedContent(UUID documentId, String sectionTitle, UUID interviewId,
+                                                 int questionNumber) {
+        String content = pdfService.getConcatenatedContentById(documentId, sectionTitle).getContent();
+        List<SectionContentChunker.ContentChunk> chunks = sectionContentChunker.chunk(content);
+
+        if (chunks.size() <= 1) {
+            return content;
+        }
+
+        int[] tokenCounts = new int[chunks.size()];
+        for (int i = 0; i < tokenCounts.length; i++) {
+            tokenCounts[i] = chunks.get(i).tokenCount();
+        }
+
+        int[] window = selectWindow(tokenCounts, rotationStart(tokenCounts.length, interviewId, sectionTitle, questionNumber), tokenBudget);
+
+        List<String> selected = new ArrayList<>(window[1] - window[0]);
+        for (int i = window[0]; i < window[1]; i++) {
+            selected.add(chunks.get(i).content());
+        }
+        return String.join("\n\n", selected);
+    }
+
+    /**
+     * The interview and section pick where the rotation starts, every answered question moves it on by the
+     * golden ratio of the section.
+     */
+    static int rotationStart(int chunkCount, UUID interviewId, String sectionTitle, int questionNumber) {
+        long seed = interviewId.getMostSignificantBits() ^ interviewId.getLeastSignificantBits()
+                ^ Objects.hashCode(sectionTitle);
+        double offset = (double) Math.floorMod(seed, chunkCount) / chunkCount;
+        double position = (offset + questionNumber * GOLDEN_RATIO_FRACTION) % 1.0;
+        return Math.min(chunkCount - 1, (int) (position * chunkCount));
+    }
+
+    /**
+     * Consecutive chunks from {@code start} that fit the budget, extended backwards when the end of the
+     * section is reached first. Always contains at least the start chunk.
+     *
+     * @return the selected range as {from inclusive, to exclusive}
+     */
+    static int[] selectWindow(int[] tokenCounts, int start, int tokenBudget) {
+        int from = start;
+        int to = start;
+        int usedTokens = 0;
+
+        while (to < tokenCounts.length && (to == from || usedTokens + tokenCounts[to] <= tokenBudget)) {
+            usedTokens += tokenCounts[to++];
+        }
+        while (from > 0 && usedTokens + tokenCounts[from - 1] <= tokenBudget) {
+            usedTokens += tokenCounts[--from];
+        }
+
+        return new int[]{from, to};
+    }
+}
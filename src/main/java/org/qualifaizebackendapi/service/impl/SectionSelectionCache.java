@@ -0,0 +1,112 @@
+package org.qualifaizebackendapi.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.qualifaizebackendapi.DTO.response.interview.question.QuestionSectionResponse;
+import org.qualifaizebackendapi.model.InterviewPerformanceStats;
+import org.qualifaizebackendapi.model.enums.Difficulty;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Reuses section selections across interviews on the same document. Candidates in the same performance
+ * bucket who have covered the same sections get the same next section without another LLM call.
+ */
+@Service
+@Slf4j
+public class SectionSelectionCache {
+
+    private final Cache<SelectionKey, QuestionSectionResponse> cache;
+    private final boolean enabled;
+
+    public SectionSelectionCache(
+            MeterRegistry meterRegistry,
+            @Value("${interview.section-selection-cache.enabled:true}") boolean enabled,
+            @Value("${interview.section-selection-cache.ttl:30m}") Duration ttl,
+            @Value("${interview.section-selection-cache.max-size:10000}") long maxSize) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "sectionSelection");
+    }
+
+    enum AccuracyBand {
+        NONE, LOW, MODERATE, GOOD, EXCELLENT;
+
+        // Same thresholds as the difficulty guidance given to the LLM
+        static AccuracyBand of(InterviewPerformanceStats stats) {
+            if (stats.getAnsweredCount() == 0) {
+                return NONE;
+            }
+
+            double accuracyPercentage = stats.accuracyPercentage();
+            if (accuracyPercentage >= 80) {
+                return EXCELLENT;
+            } else if (accuracyPercentage >= 60) {
+                return GOOD;
+            } else if (accuracyPercentage >= 40) {
+                return MODERATE;
+            }
+            return LOW;
+        }
+    }
+
+    record SelectionKey(UUID documentId, Difficulty interviewDifficulty, AccuracyBand accuracyBand,
+                        Difficulty lastDifficulty, Set<String> coveredSections) {
+    }
+
+    /**
+     * Returns a cached selection for an equivalent interview state, or runs the selection and caches its result.
+     * The state is read from the interview's performance aggregate. Aggregates stored before the covered
+     * sections were tracked cannot be keyed and always run the selection.
+     */
+    public QuestionSectionResponse getOrSelect(UUID documentId, Difficulty interviewDifficulty,
+                                               InterviewPerformanceStats stats,
+                                               Supplier<QuestionSectionResponse> selection) {
+        if (!enabled || stats == null || (stats.getAnsweredCount() > 0 && stats.getLastDifficulty() == null)) {
+            return selection.get();
+        }
+
+        SelectionKey key = toKey(documentId, interviewDifficulty, stats);
+
+        QuestionSectionResponse cachedSelection = cache.getIfPresent(key);
+        if (cachedSelection != null && !key.coveredSections().contains(normalize(cachedSelection.getTitle()))) {
+            log.debug("Reusing cached section selection '{}' for document: {}", cachedSelection.getTitle(), documentId);
+            return cachedSelection;
+        }
+
+        QuestionSectionResponse selectedSection = selection.get();
+        if (selectedSection != null && selectedSection.getTitle() != null) {
+            cache.put(key, selectedSection);
+        }
+
+        return selectedSection;
+    }
+
+    private SelectionKey toKey(UUID documentId, Difficulty interviewDifficulty, InterviewPerformanceStats stats) {
+        Set<String> coveredSections = stats.getCoveredSections().stream()
+                .map(SectionSelectionCache::normalize)
+                .collect(Collectors.toUnmodifiableSet());
+
+        return new SelectionKey(documentId, interviewDifficulty, AccuracyBand.of(stats),
+                stats.getLastDifficulty(), coveredSections);
+    }
+
+    private static String normalize(String sectionTitle) {
+        return sectionTitle == null ? "" : sectionTitle.trim().toLowerCase(Locale.ROOT);
+    }
+}
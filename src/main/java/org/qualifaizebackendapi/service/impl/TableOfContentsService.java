@@ -0,0 +1,73 @@
+package org.qualifaizebackendapi.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.qualifaizebackendapi.exception.ResourceNotFoundException;
+import org.qualifaizebackendapi.repository.PdfRepository;
+import org.qualifaizebackendapi.repository.SubsectionRepository;
+import org.qualifaizebackendapi.utils.TableOfContentsRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Serves the rendered table of contents of a document. The text is rendered once at ingestion and stored
+ * with the document; this keeps it in memory so section selection does not touch the subsection tree.
+ */
+@Service
+@Slf4j
+public class TableOfContentsService {
+
+    private final PdfRepository pdfRepository;
+    private final SubsectionRepository subsectionRepository;
+    private final Cache<UUID, String> cache;
+
+    public TableOfContentsService(
+            PdfRepository pdfRepository,
+            SubsectionRepository subsectionRepository,
+            MeterRegistry meterRegistry,
+            @Value("${interview.table-of-contents-cache.max-size:500}") long maxSize) {
+        this.pdfRepository = pdfRepository;
+        this.subsectionRepository = subsectionRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tableOfContents");
+    }
+
+    @Transactional
+    public String getTableOfContents(UUID documentId) {
+        return cache.get(documentId, this::loadTableOfContents);
+    }
+
+    public void evict(UUID documentId) {
+        cache.invalidate(documentId);
+    }
+
+    /**
+     * Documents ingested before the table of contents was stored get it rendered and saved on first use.
+     * Missing documents throw, so nothing is cached for them.
+     */
+    private String loadTableOfContents(UUID documentId) {
+        return pdfRepository.findTableOfContentsById(documentId).orElseGet(() -> {
+            if (!pdfRepository.existsById(documentId)) {
+                throw new ResourceNotFoundException(String.format("PDF document not found with ID: %s", documentId));
+            }
+
+            log.info("Rendering missing table of contents for document: {}", documentId);
+
+            String tableOfContents = TableOfContentsRenderer.render(
+                    subsectionRepository.findTableOfContentsEntriesByDocumentId(documentId));
+            pdfRepository.updateTableOfContents(documentId, tableOfContents);
+
+            return tableOfContents;
+        });
+    }
+}
@@ -0,0 +1,128 @@
+package org.qualifaizebackendapi.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.qualifaizebackendapi.DTO.response.user.UserDetailsResponse;
+import org.qualifaizebackendapi.model.User;
+import org.qualifaizebackendapi.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Users read by id or username, and the list of active users, kept in memory between requests.
+ * <p>
+ * Cached users are detached and shared between threads, so they may be read or referenced by other
+ * entities but never modified. Code that changes a user loads it from the repository and calls
+ * {@link #evict(UUID)}. Other nodes are told through {@link UserChangeBroadcaster}.
+ */
+@Service
+@Slf4j
+public class UserCache {
+
+    private static final String ACTIVE_USERS_KEY = "active";
+
+    private final UserRepository userRepository;
+
+    private final Cache<UUID, User> usersById;
+    private final Cache<String, UUID> userIdsByUsername;
+    private final Cache<String, List<UserDetailsResponse>> activeUsers;
+
+    public UserCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${users.cache.ttl:10m}") Duration ttl,
+            @Value("${users.cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.usersById = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.userIdsByUsername = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.activeUsers = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(1)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "usersById");
+        CaffeineCacheMetrics.monitor(meterRegistry, userIdsByUsername, "usersByUsername");
+        CaffeineCacheMetrics.monitor(meterRegistry, activeUsers, "activeUsers");
+    }
+
+    /**
+     * @return the user, deleted or not, or null if there is none
+     */
+    public User findById(UUID userId) {
+        return usersById.get(userId, id -> userRepository.findById(id).orElse(null));
+    }
+
+    /**
+     * @return the user, deleted or not, or null if there is none
+     */
+    public User findByUsername(String username) {
+        UUID userId = userIdsByUsername.getIfPresent(username);
+        User user = userId != null ? usersById.getIfPresent(userId) : null;
+        // The username may have been given to the user after it was cached
+        if (user != null && username.equals(user.getUsername())) {
+            return user;
+        }
+
+        user = userRepository.findByUsername(username);
+        if (user != null) {
+            usersById.put(user.getId(), user);
+            userIdsByUsername.put(username, user.getId());
+        }
+        return user;
+    }
+
+    public List<UserDetailsResponse> getActiveUsers(Supplier<List<UserDetailsResponse>> loader) {
+        return activeUsers.get(ACTIVE_USERS_KEY, key -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * Evicts the user once the current transaction commits, so a concurrent request cannot cache
+     * the state from before the change again.
+     */
+    public void evict(UUID userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId);
+                }
+            });
+        } else {
+            evictNow(userId);
+        }
+    }
+
+    void evictNow(UUID userId) {
+        User user = usersById.getIfPresent(userId);
+        if (user != null) {
+            userIdsByUsername.invalidate(user.getUsername());
+        }
+        usersById.invalidate(userId);
+        activeUsers.invalidateAll();
+    }
+
+    void evictAll() {
+        usersById.invalidateAll();
+        userIdsByUsername.invalidateAll();
+        activeUsers.invalidateAll();
+    }
+}
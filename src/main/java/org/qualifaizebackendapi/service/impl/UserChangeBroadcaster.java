@@ -0,0 +1,142 @@
+package org.qualifaizebackendapi.service.impl;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.qualifaizebackendapi.security.TokenRevocationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * Tells every node that a user changed, so it evicts the user from its {@link UserCache} and its cached
+ * token version. Changes are sent with PostgreSQL NOTIFY, which delivers them when the sending transaction
+ * commits and drops them when it rolls back. Each node listens on its own connection, outside the pool,
+ * opened with the same driver, url, credentials and driver properties as the pooled connections.
+ * <p>
+ * Notifications sent while a node is disconnected are lost, so it clears its caches when it reconnects.
+ * The connection is validated with a round trip on every poll, since a half-open socket would otherwise
+ * never fail and the node would silently stop evicting.
+ */
+@Service
+@Slf4j
+public class UserChangeBroadcaster {
+
+    private static final String CHANNEL = "user_changed";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserCache userCache;
+    private final TokenRevocationService tokenRevocationService;
+
+    private final boolean enabled;
+    private final DataSource listenDataSource;
+
+    private Connection listenConnection;
+
+    public UserChangeBroadcaster(
+            JdbcTemplate jdbcTemplate,
+            UserCache userCache,
+            TokenRevocationService tokenRevocationService,
+            DataSourceProperties dataSourceProperties,
+            DataSource dataSource,
+            @Value("${users.cache.invalidation.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userCache = userCache;
+        this.tokenRevocationService = tokenRevocationService;
+        this.enabled = enabled;
+        this.listenDataSource = createListenDataSource(dataSourceProperties, dataSource);
+    }
+
+    /**
+     * Unpooled data source for the listening connection. Driver properties configured on the pool,
+     * such as SSL settings, are applied to it as well.
+     */
+    private static DataSource createListenDataSource(DataSourceProperties dataSourceProperties, DataSource dataSource) {
+        SimpleDriverDataSource listenDataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(SimpleDriverDataSource.class)
+                .build();
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            listenDataSource.setConnectionProperties(hikariDataSource.getDataSourceProperties());
+        }
+        return listenDataSource;
+    }
+
+    /**
+     * Tells the other nodes about the change once the current transaction commits.
+     */
+    public void publish(UUID userId) {
+        if (enabled) {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL, userId.toString());
+        }
+    }
+
+    /**
+     * Applies the changes other nodes have sent since the last call. Notifications of this node's
+     * own changes arrive here as well, evicting what was already evicted.
+     */
+    @Scheduled(fixedDelayString = "${users.cache.invalidation.poll-interval:1s}")
+    public synchronized void receive() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            if (listenConnection != null && !listenConnection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                log.warn("User change connection is no longer valid, listening again");
+                closeQuietly();
+            }
+            if (listenConnection == null) {
+                listen();
+            }
+
+            PGNotification[] notifications = listenConnection.unwrap(PGConnection.class).getNotifications();
+            if (notifications == null) {
+                return;
+            }
+
+            for (PGNotification notification : notifications) {
+                UUID userId = UUID.fromString(notification.getParameter());
+                userCache.evictNow(userId);
+                tokenRevocationService.invalidate(userId);
+            }
+            log.debug("Evicted {} changed users", notifications.length);
+        } catch (SQLException | IllegalArgumentException e) {
+            log.warn("Lost user change notifications, listening again: {}", e.getMessage());
+            closeQuietly();
+        }
+    }
+
+    private void listen() throws SQLException {
+        listenConnection = listenDataSource.getConnection();
+        try (Statement statement = listenConnection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+
+        // Changes made while not listening were missed
+        userCache.evictAll();
+        tokenRevocationService.invalidateAll();
+        log.info("Listening for user changes on channel: {}", CHANNEL);
+    }
+
+    private void closeQuietly() {
+        if (listenConnection != null) {
+            try {
+                listenConnection.close();
+            } catch (SQLException e) {
+                log.debug("Failed to close user change connection", e);
+            }
+            listenConnection = null;
+        }
+    }
+}
@@ -18,6 +18,7 @@ import org.qualifaizebackendapi.model.User;
 import org.qualifaizebackendapi.repository.UserRepository;
 import org.qualifaizebackendapi.security.JwtService;
 import org.qualifaizebackendapi.security.QualifAIzeUserDetails;
+import org.qualifaizebackendapi.security.TokenRevocationService;
 import org.qualifaizebackendapi.service.UserService;
 import org.qualifaizebackendapi.utils.SecurityUtils;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -26,7 +27,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.Arrays;
@@ -41,18 +42,23 @@ import java.util.stream.Collectors;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserCache userCache;
+    private final UserChangeBroadcaster userChangeBroadcaster;
     private final UserMapper userMapper;
 
     public UserAuthResponse register(UserRegisterRequest userRegisterRequestDTO) {
         User user = this.userMapper.toUser(userRegisterRequestDTO);
-        user.setPassword(bCryptPasswordEncoder.encode(userRegisterRequestDTO.getPassword()));
+        user.setPassword(passwordEncoder.encode(userRegisterRequestDTO.getPassword()));
         user.setRoles(parseRoles(userRegisterRequestDTO.getRoles()));
         User savedUser = userRepository.save(user);
+        onUserChanged(savedUser.getId());
 
-        String token = jwtService.generateToken(savedUser.getId(), savedUser.getUsername(), user.getRoles());
+        String token = jwtService.generateToken(savedUser.getId(), savedUser.getUsername(), user.getRoles(),
+                savedUser.getTokenVersion());
 
         return userMapper.toUserAuthResponse(token);
     }
@@ -65,11 +71,14 @@ public class UserServiceImpl implements UserService {
         if (affectedRowCFromDbRequest == 0) {
             throw new IllegalArgumentException("User already deleted");
         }
+
+        onUserChanged(userId);
     }
 
     @Override
     public List<UserDetailsResponse> getAllUsers() {
-        return this.userMapper.toUserDetailsResponseList(userRepository.findAllActive());
+        return userCache.getActiveUsers(
+                () -> this.userMapper.toUserDetailsResponseList(userRepository.findAllActive()));
     }
 
     public UserAuthResponse login(UserLoginRequest user) {
@@ -88,7 +97,7 @@ public class UserServiceImpl implements UserService {
         }
 
         QualifAIzeUserDetails userDetails = (QualifAIzeUserDetails) authentication.getPrincipal();
-        return new UserAuthResponse(jwtService.generateToken(userDetails.getUser().getId(), userDetails.getUser().getUsername(), userDetails.getUser().getRoles()));
+        return new UserAuthResponse(jwtService.generateToken(userDetails.getId(), userDetails.getUsername(), userDetails.getRoles(), userDetails.getTokenVersion()));
     }
 
     @Override
@@ -98,11 +107,12 @@ public class UserServiceImpl implements UserService {
 
         SecurityUtils.checkUserAccess(userId);
 
-        User existingUser = fetchUserOrThrow(userId);
+        User existingUser = loadUserOrThrow(userId);
 
-        if (StringUtils.hasText(request.getUsername()) &&
-                !request.getUsername().equals(existingUser.getUsername())) {
+        boolean usernameChanged = StringUtils.hasText(request.getUsername()) &&
+                !request.getUsername().equals(existingUser.getUsername());
 
+        if (usernameChanged) {
             if (userRepository.existsByUsernameAndIdNot(request.getUsername(), userId)) {
                 throw new DuplicateException(
                         String.format("Username '%s' is already taken", request.getUsername())
@@ -122,7 +132,13 @@ public class UserServiceImpl implements UserService {
 
         userMapper.updateUserFromRequest(request, existingUser);
 
+        // Tokens carry the username, so they are reissued at the next login
+        if (usernameChanged) {
+            existingUser.setTokenVersion(existingUser.getTokenVersion() + 1);
+        }
+
         User updatedUser = userRepository.save(existingUser);
+        onUserChanged(userId);
 
         log.info("Successfully updated user details for user ID: {}", userId);
 
@@ -147,7 +163,7 @@ public class UserServiceImpl implements UserService {
 
         Role roleToAdd = validateAndParseRole(roleString);
 
-        User userToPromote = fetchUserOrThrow(userId);
+        User userToPromote = loadUserOrThrow(userId);
 
         if (userToPromote.getRoles().contains(roleToAdd)) {
             throw new IllegalArgumentException(
@@ -157,8 +173,11 @@ public class UserServiceImpl implements UserService {
         }
 
         userToPromote.getRoles().add(roleToAdd);
+        // Tokens carry the roles, so the user logs in again to get a token with the new role
+        userToPromote.setTokenVersion(userToPromote.getTokenVersion() + 1);
 
         User updatedUser = userRepository.save(userToPromote);
+        onUserChanged(userId);
 
         log.info("Successfully promoted user '{}' (ID: {}) with role: {}",
                 updatedUser.getUsername(), userId, roleToAdd.name());
@@ -167,11 +186,43 @@ public class UserServiceImpl implements UserService {
     }
 
 
+    @Override
+    public User getCurrentUserReference() {
+        return userRepository.getReferenceById(SecurityUtils.getCurrentUserId());
+    }
+
+    /**
+     * Served from the {@link UserCache}, the returned user must not be modified.
+     */
     public User fetchUserOrThrow(UUID userId) {
+        User user = userCache.findById(userId);
+        if (user == null) {
+            throw userNotFound(userId);
+        }
+        return user;
+    }
+
+    /**
+     * Loads the user from the database to be modified, bypassing the cache.
+     */
+    private User loadUserOrThrow(UUID userId) {
         return userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        String.format("User with Id %s was now found!", userId)
-                ));
+                .orElseThrow(() -> userNotFound(userId));
+    }
+
+    private static ResourceNotFoundException userNotFound(UUID userId) {
+        return new ResourceNotFoundException(
+                String.format("User with Id %s was now found!", userId)
+        );
+    }
+
+    /**
+     * Evicts the user from the caches of every node once the current transaction commits.
+     */
+    private void onUserChanged(UUID userId) {
+        userCache.evict(userId);
+        tokenRevocationService.revoke(userId);
+        userChangeBroadcaster.publish(userId);
     }
 
     /**
@@ -0,0 +1,156 @@
+package org.qualifaizebackendapi.utils;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.qualifaizebackendapi.model.Document;
+import org.qualifaizebackendapi.model.Subsection;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Reads the document parser JSON response token by token.
+ * The subsection tree is read one level per pass, so parents are always handed to the consumer before their
+ * children and only the subsection currently being read is held in memory. Subsection ids are derived from the
+ * document id and the position of the subsection in the tree, which lets a later pass reference parents
+ * that were read by an earlier one. The same position is kept as the tree path that gives document order.
+ */
+public final class DocumentParserResponseReader {
+
+    private DocumentParserResponseReader() {
+    }
+
+    /**
+     * Fills the document name and subsection count on the given document, skipping the subsection tree.
+     */
+    public static void readDocumentFields(JsonParser parser, Document document) throws IOException {
+        expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "document_name" -> document.setFileName(parser.getValueAsString());
+                case "subsections_count" -> document.setSubsectionsCount(parser.getValueAsInt());
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Streams the subsections at the given depth of the tree (0 for top level sections) to the consumer.
+     * The document must already have an id.
+     *
+     * @return number of subsections found at that depth, 0 once the tree has been read completely
+     */
+    public static int readLevel(JsonParser parser, Document document, int depth,
+                                Consumer<Subsection> subsectionConsumer) throws IOException {
+        expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+
+        int subsectionCount = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            if ("subsections".equals(fieldName)) {
+                subsectionCount += readSubsections(parser, document, "", 0, depth, subsectionConsumer);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return subsectionCount;
+    }
+
+    private static int readSubsections(JsonParser parser, Document document, String parentPath, int currentDepth,
+                                       int targetDepth, Consumer<Subsection> subsectionConsumer) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return 0;
+        }
+        expectToken(parser, parser.currentToken(), JsonToken.START_ARRAY);
+
+        int subsectionCount = 0;
+        int index = 0;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String path = parentPath.isEmpty() ? Integer.toString(index) : parentPath + "." + index;
+            if (currentDepth == targetDepth) {
+                subsectionConsumer.accept(readSubsection(parser, document, parentPath, path));
+                subsectionCount++;
+            } else {
+                subsectionCount += readChildren(parser, document, path, currentDepth + 1, targetDepth, subsectionConsumer);
+            }
+            index++;
+        }
+        expectToken(parser, parser.currentToken(), JsonToken.END_ARRAY);
+
+        return subsectionCount;
+    }
+
+    private static int readChildren(JsonParser parser, Document document, String path, int childDepth,
+                                    int targetDepth, Consumer<Subsection> subsectionConsumer) throws IOException {
+        int subsectionCount = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            if ("subsections".equals(fieldName)) {
+                subsectionCount += readSubsections(parser, document, path, childDepth, targetDepth, subsectionConsumer);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return subsectionCount;
+    }
+
+    private static Subsection readSubsection(JsonParser parser, Document document, String parentPath,
+                                             String path) throws IOException {
+        Subsection subsection = new Subsection();
+        subsection.setId(subsectionId(document, path));
+        subsection.setTreePath(treePath(path));
+        subsection.setDocument(document);
+        if (!parentPath.isEmpty()) {
+            Subsection parent = new Subsection();
+            parent.setId(subsectionId(document, parentPath));
+            subsection.setParent(parent);
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "title" -> subsection.setTitle(parser.getValueAsString());
+                case "content" -> subsection.setContent(parser.getValueAsString());
+                case "position" -> subsection.setPosition(parser.getValueAsInt());
+                case "level" -> subsection.setLevel(parser.getValueAsInt());
+                default -> parser.skipChildren();
+            }
+        }
+
+        return subsection;
+    }
+
+    private static UUID subsectionId(Document document, String path) {
+        return UUID.nameUUIDFromBytes((document.getId() + "/" + path).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int[] treePath(String path) {
+        String[] indexes = path.split("\\.");
+        int[] treePath = new int[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            treePath[i] = Integer.parseInt(indexes[i]);
+        }
+        return treePath;
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser,
+                    String.format("Unexpected token in document parser response: expected %s but was %s", expected, actual));
+        }
+    }
+}
@@ -2,15 +2,23 @@ package org.qualifaizebackendapi.utils;
 
 import lombok.extern.slf4j.Slf4j;
 import org.qualifaizebackendapi.DTO.QuestionDetailsDTO;
+import org.qualifaizebackendapi.model.InterviewPerformanceStats;
+import org.qualifaizebackendapi.model.InterviewPerformanceStats.DifficultyStats;
+import org.qualifaizebackendapi.model.InterviewPerformanceStats.RecentAnswer;
 import org.qualifaizebackendapi.model.enums.Difficulty;
 
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
+/**
+ * Computes interview progress from primitive counters gathered in a single pass, either over the answered
+ * questions or from an interview's running {@link InterviewPerformanceStats}. The result is identical to
+ * evaluating each factor with separate streams over the answers, including the rounding of the average time.
+ */
 @Slf4j
 public final class InterviewProgressCalculator {
 
+    private static final long FAST_ANSWER_THRESHOLD_MILLIS = InterviewPerformanceStats.FAST_ANSWER_THRESHOLD_MILLIS;
+
     private InterviewProgressCalculator() {
     }
 
@@ -22,45 +30,192 @@ public final class InterviewProgressCalculator {
             return 0;
         }
 
-        int baseProgress = Math.min(answeredQuestions.size() * 10, 70);
-        double performanceFactor = calculatePerformanceFactor(answeredQuestions);
-        double speedFactor = calculateSpeedFactor(answeredQuestions);
-        double difficultyFactor = calculateDifficultyFactor(answeredQuestions);
-        double confidenceFactor = calculateConfidenceFactor(answeredQuestions);
+        int size = answeredQuestions.size();
+        Counters counters = new Counters();
+        counters.answeredCount = size;
+
+        // Compensated sum of answer times in seconds, accumulated like DoubleStream.average()
+        double timeSum = 0;
+        double timeCompensation = 0;
+        double timeSimpleSum = 0;
+
+        for (int i = 0; i < size; i++) {
+            QuestionDetailsDTO question = answeredQuestions.get(i);
+            boolean correct = question.isSubmittedAnswerCorrect();
+            Long answerTime = question.getAnswerTimeInMillis();
+
+            counters.countAnswer(question.getDifficulty(), correct);
+
+            if (answerTime != null) {
+                long millis = answerTime;
+
+                if (millis > 0) {
+                    double seconds = millis / 1000.0;
+                    double compensated = seconds - timeCompensation;
+                    double sum = timeSum + compensated;
+                    timeCompensation = (sum - timeSum) - compensated;
+                    timeSum = sum;
+                    timeSimpleSum += seconds;
+                    counters.timedAnswerCount++;
+                }
+
+                if (millis < FAST_ANSWER_THRESHOLD_MILLIS) {
+                    counters.fastAnswerCount++;
+                    if (correct) {
+                        counters.fastCorrectCount++;
+                    }
+                }
+            }
+
+            if (correct) {
+                if (i >= size - 3) {
+                    counters.recentCorrect++;
+                } else if (i >= size - 6) {
+                    counters.earlierCorrect++;
+                }
+            }
+        }
+
+        if (counters.timedAnswerCount > 0) {
+            double finalSum = timeSum - timeCompensation;
+            if (Double.isNaN(finalSum) && Double.isInfinite(timeSimpleSum)) {
+                finalSum = timeSimpleSum;
+            }
+            counters.averageSeconds = finalSum / counters.timedAnswerCount;
+        }
+
+        return calculateProgress(counters);
+    }
+
+    /**
+     * Calculates progress from an interview's running aggregate without looking at individual answers
+     */
+    public static int calculateProgress(InterviewPerformanceStats stats) {
+        if (stats == null || stats.getAnsweredCount() == 0) {
+            return 0;
+        }
+
+        Counters counters = new Counters();
+        counters.answeredCount = stats.getAnsweredCount();
+        counters.timedAnswerCount = stats.getTimedAnswerCount();
+        counters.averageSeconds = stats.compensatedAverageAnswerTimeSeconds();
+        counters.fastAnswerCount = stats.getFastAnswerCount();
+        counters.fastCorrectCount = stats.getFastCorrectCount();
+
+        stats.getByDifficulty().forEach((difficulty, difficultyStats) ->
+                counters.countAnswers(difficulty, difficultyStats));
+
+        List<RecentAnswer> window = stats.getRecentAnswers();
+        int windowSize = window.size();
+        for (int i = Math.max(0, windowSize - 6); i < windowSize; i++) {
+            if (window.get(i).correct()) {
+                if (i >= windowSize - 3) {
+                    counters.recentCorrect++;
+                } else {
+                    counters.earlierCorrect++;
+                }
+            }
+        }
+
+        return calculateProgress(counters);
+    }
+
+    /**
+     * Primitive inputs of the progress factors
+     */
+    private static final class Counters {
+        int answeredCount;
+
+        int easyAnswered;
+        int easyCorrect;
+        int mediumAnswered;
+        int mediumCorrect;
+        int hardAnswered;
+        int hardCorrect;
+
+        int timedAnswerCount;
+        double averageSeconds;
+        int fastAnswerCount;
+        int fastCorrectCount;
+
+        // Correct answers among the last three, and among the three before them
+        int recentCorrect;
+        int earlierCorrect;
+
+        void countAnswer(Difficulty difficulty, boolean correct) {
+            int correctCount = correct ? 1 : 0;
+            switch (difficulty) {
+                case EASY -> {
+                    easyAnswered++;
+                    easyCorrect += correctCount;
+                }
+                case MEDIUM -> {
+                    mediumAnswered++;
+                    mediumCorrect += correctCount;
+                }
+                case HARD -> {
+                    hardAnswered++;
+                    hardCorrect += correctCount;
+                }
+            }
+        }
+
+        void countAnswers(Difficulty difficulty, DifficultyStats stats) {
+            switch (difficulty) {
+                case EASY -> {
+                    easyAnswered += stats.getAnsweredCount();
+                    easyCorrect += stats.getCorrectCount();
+                }
+                case MEDIUM -> {
+                    mediumAnswered += stats.getAnsweredCount();
+                    mediumCorrect += stats.getCorrectCount();
+                }
+                case HARD -> {
+                    hardAnswered += stats.getAnsweredCount();
+                    hardCorrect += stats.getCorrectCount();
+                }
+            }
+        }
+    }
+
+    private static int calculateProgress(Counters counters) {
+        int baseProgress = Math.min(counters.answeredCount * 10, 70);
+        double performanceFactor = calculatePerformanceFactor(counters);
+        double speedFactor = calculateSpeedFactor(counters);
+        double difficultyFactor = calculateDifficultyFactor(counters);
+        double confidenceFactor = calculateConfidenceFactor(counters);
 
         double finalProgress = baseProgress * performanceFactor * speedFactor * difficultyFactor * confidenceFactor;
 
         int progressPercentage = (int) Math.round(Math.min(99.0, finalProgress));
 
         // Force 100% completion for edge cases
-        if (answeredQuestions.size() >= 25 ||
-                (answeredQuestions.size() >= 10 && finalProgress >= 95)) {
+        if (counters.answeredCount >= 25 ||
+                (counters.answeredCount >= 10 && finalProgress >= 95)) {
             progressPercentage = 100;
         }
 
-        log.debug("Interview progress: base={}%, perf={}, speed={}, diff={}, conf={}, result={}%",
-                baseProgress, String.format("%.2f", performanceFactor), String.format("%.2f", speedFactor),
-                String.format("%.2f", difficultyFactor), String.format("%.2f", confidenceFactor), progressPercentage);
+        if (log.isDebugEnabled()) {
+            log.debug("Interview progress: base={}%, perf={}, speed={}, diff={}, conf={}, result={}%",
+                    baseProgress, String.format("%.2f", performanceFactor), String.format("%.2f", speedFactor),
+                    String.format("%.2f", difficultyFactor), String.format("%.2f", confidenceFactor), progressPercentage);
+        }
 
         return progressPercentage;
     }
 
-    private static double calculatePerformanceFactor(List<QuestionDetailsDTO> questions) {
-        if (questions.size() < 3) {
+    private static double calculatePerformanceFactor(Counters counters) {
+        if (counters.answeredCount < 3) {
             return 1.0;
         }
 
-        double totalWeight = 0;
-        double weightedCorrect = 0;
-
-        for (QuestionDetailsDTO question : questions) {
-            double weight = getDifficultyWeight(question.getDifficulty());
-            totalWeight += weight;
-
-            if (question.isSubmittedAnswerCorrect()) {
-                weightedCorrect += weight;
-            }
-        }
+        // Weights are multiples of 0.5, so these products are exact and equal to summing weight by weight
+        double totalWeight = counters.easyAnswered * getDifficultyWeight(Difficulty.EASY)
+                + counters.mediumAnswered * getDifficultyWeight(Difficulty.MEDIUM)
+                + counters.hardAnswered * getDifficultyWeight(Difficulty.HARD);
+        double weightedCorrect = counters.easyCorrect * getDifficultyWeight(Difficulty.EASY)
+                + counters.mediumCorrect * getDifficultyWeight(Difficulty.MEDIUM)
+                + counters.hardCorrect * getDifficultyWeight(Difficulty.HARD);
 
         double weightedAccuracy = weightedCorrect / totalWeight;
 
@@ -77,26 +232,16 @@ public final class InterviewProgressCalculator {
         }
     }
 
-    private static double calculateSpeedFactor(List<QuestionDetailsDTO> questions) {
-        List<Long> validTimes = questions.stream()
-                .map(QuestionDetailsDTO::getAnswerTimeInMillis)
-                .filter(time -> time != null && time > 0)
-                .toList();
-
-        if (validTimes.isEmpty()) {
+    private static double calculateSpeedFactor(Counters counters) {
+        if (counters.timedAnswerCount == 0) {
             return 1.0;
         }
 
-        double averageSeconds = validTimes.stream()
-                .mapToDouble(time -> time / 1000.0)
-                .average()
-                .orElse(60.0);
+        double averageSeconds = counters.averageSeconds;
 
-        double fastAccuracy = questions.stream()
-                .filter(q -> q.getAnswerTimeInMillis() != null && q.getAnswerTimeInMillis() < 20000)
-                .mapToDouble(q -> q.isSubmittedAnswerCorrect() ? 1.0 : 0.0)
-                .average()
-                .orElse(0.5);
+        double fastAccuracy = counters.fastAnswerCount == 0
+                ? 0.5
+                : (double) counters.fastCorrectCount / counters.fastAnswerCount;
 
         if (averageSeconds < 15) {
             return fastAccuracy > 0.7 ? 1.3 : 0.8;
@@ -111,51 +256,28 @@ public final class InterviewProgressCalculator {
         }
     }
 
-    private static double calculateDifficultyFactor(List<QuestionDetailsDTO> questions) {
-        Map<Difficulty, List<QuestionDetailsDTO>> byDifficulty = questions.stream()
-                .collect(Collectors.groupingBy(QuestionDetailsDTO::getDifficulty));
-
-        boolean hasEasy = byDifficulty.containsKey(Difficulty.EASY);
-        boolean hasMedium = byDifficulty.containsKey(Difficulty.MEDIUM);
-        boolean hasHard = byDifficulty.containsKey(Difficulty.HARD);
-
-        double easyAccuracy = calculateDifficultyAccuracy(byDifficulty.get(Difficulty.EASY));
-        double mediumAccuracy = calculateDifficultyAccuracy(byDifficulty.get(Difficulty.MEDIUM));
-        double hardAccuracy = calculateDifficultyAccuracy(byDifficulty.get(Difficulty.HARD));
-
-        if (hasHard && hardAccuracy > 0.6) {
+    private static double calculateDifficultyFactor(Counters counters) {
+        if (counters.hardAnswered > 0 && calculateDifficultyAccuracy(counters.hardCorrect, counters.hardAnswered) > 0.6) {
             return 1.4;
-        } else if (hasMedium && mediumAccuracy > 0.7) {
+        } else if (counters.mediumAnswered > 0 && calculateDifficultyAccuracy(counters.mediumCorrect, counters.mediumAnswered) > 0.7) {
             return 1.2;
-        } else if (hasEasy && easyAccuracy > 0.8) {
+        } else if (counters.easyAnswered > 0 && calculateDifficultyAccuracy(counters.easyCorrect, counters.easyAnswered) > 0.8) {
             return 1.0;
         } else {
             return 0.9;
         }
     }
 
-    private static double calculateConfidenceFactor(List<QuestionDetailsDTO> questions) {
-        if (questions.size() < 3) {
+    private static double calculateConfidenceFactor(Counters counters) {
+        if (counters.answeredCount < 3) {
             return 1.0;
         }
 
-        List<QuestionDetailsDTO> recent = questions.subList(
-                Math.max(0, questions.size() - 3), questions.size());
-
-        long recentCorrect = recent.stream()
-                .mapToLong(q -> q.isSubmittedAnswerCorrect() ? 1 : 0)
-                .sum();
-
-        if (questions.size() >= 6) {
-            List<QuestionDetailsDTO> earlier = questions.subList(
-                    Math.max(0, questions.size() - 6), questions.size() - 3);
-
-            long earlierCorrect = earlier.stream()
-                    .mapToLong(q -> q.isSubmittedAnswerCorrect() ? 1 : 0)
-                    .sum();
+        long recentCorrect = counters.recentCorrect;
 
+        if (counters.answeredCount >= 6) {
             double recentAccuracy = recentCorrect / 3.0;
-            double earlierAccuracy = earlierCorrect / 3.0;
+            double earlierAccuracy = counters.earlierCorrect / 3.0;
 
             if (recentAccuracy > earlierAccuracy + 0.2) {
                 return 1.2;
@@ -183,15 +305,7 @@ public final class InterviewProgressCalculator {
         };
     }
 
-    private static double calculateDifficultyAccuracy(List<QuestionDetailsDTO> questions) {
-        if (questions == null || questions.isEmpty()) {
-            return 0.0;
-        }
-
-        long correct = questions.stream()
-                .mapToLong(q -> q.isSubmittedAnswerCorrect() ? 1 : 0)
-                .sum();
-
-        return (double) correct / questions.size();
+    private static double calculateDifficultyAccuracy(int correct, int answered) {
+        return (double) correct / answered;
     }
-}
\ No newline at end of file
+}
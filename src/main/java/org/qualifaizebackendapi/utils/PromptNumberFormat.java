@@ -0,0 +1,44 @@
+package org.qualifaizebackendapi.utils;
+
+/**
+ * Appends the numbers used in LLM prompts directly to a builder, without going through a formatter.
+ */
+public final class PromptNumberFormat {
+
+    private PromptNumberFormat() {
+    }
+
+    /**
+     * Appends a non-negative value rounded half up to one decimal, like {@code %.1f}
+     */
+    public static void appendOneDecimal(StringBuilder sb, double value) {
+        long tenths = Math.round(value * 10);
+        sb.append(tenths / 10).append('.').append(tenths % 10);
+    }
+
+    /**
+     * Appends a non-negative value rounded half up to a whole number, like {@code %.0f}
+     */
+    public static void appendNoDecimals(StringBuilder sb, double value) {
+        sb.append(Math.round(value));
+    }
+
+    /**
+     * Appends an answer time as seconds below a minute and as minutes and seconds above it
+     */
+    public static void appendAnswerTime(StringBuilder sb, Long timeInMillis) {
+        if (timeInMillis == null || timeInMillis <= 0) {
+            sb.append("unknown");
+            return;
+        }
+
+        double seconds = timeInMillis / 1000.0;
+
+        if (seconds < 60) {
+            appendOneDecimal(sb, seconds);
+            sb.append('s');
+        } else {
+            sb.append((int) (seconds / 60)).append("m ").append((int) (seconds % 60)).append('s');
+        }
+    }
+}
@@ -1,12 +1,12 @@
 package org.qualifaizebackendapi.utils;
 
-import org.qualifaizebackendapi.model.User;
 import org.qualifaizebackendapi.model.enums.Role;
 import org.qualifaizebackendapi.security.QualifAIzeUserDetails;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.util.Set;
 import java.util.UUID;
 
 public class SecurityUtils {
@@ -33,10 +33,6 @@ public class SecurityUtils {
         }
     }
 
-    public static User getCurrentUser() {
-        return getUserDetails().getUser();
-    }
-
     public static UUID getCurrentUserId() {
         return getUserDetails().getId();
     }
@@ -45,17 +41,16 @@ public class SecurityUtils {
      * Check if current user has the specified role
      */
     public static boolean hasRole(Role role) {
-        User currentUser = getCurrentUser();
-        return currentUser.getRoles().contains(role);
+        return getUserDetails().getRoles().contains(role);
     }
 
     /**
      * Check if current user has any of the specified roles
      */
     public static boolean hasAnyRole(Role... roles) {
-        User currentUser = getCurrentUser();
+        Set<Role> currentRoles = getUserDetails().getRoles();
         for (Role role : roles) {
-            if (currentUser.getRoles().contains(role)) {
+            if (currentRoles.contains(role)) {
                 return true;
             }
         }
@@ -236,19 +231,6 @@ public class SecurityUtils {
         }
     }
 
-    /**
-     * Get current user safely (returns null if no authenticated user)
-     *
-     * @return Current user or null
-     */
-    public static User getCurrentUserSafe() {
-        try {
-            return getCurrentUser();
-        } catch (IllegalStateException e) {
-            return null;
-        }
-    }
-
     /**
      * Check if there is an authenticated user
      *
@@ -0,0 +1,78 @@
+package org.qualifaizebackendapi.utils;
+
+import org.qualifaizebackendapi.DTO.TableOfContentsEntryDTO;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Renders the plain-text table of contents given to the LLM when it selects the next interview section.
+ */
+public final class TableOfContentsRenderer {
+
+    private TableOfContentsRenderer() {
+    }
+
+    public static String render(List<TableOfContentsEntryDTO> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return "Document contains no sections";
+        }
+
+        List<TableOfContentsEntryDTO> roots = new ArrayList<>();
+        Map<UUID, List<TableOfContentsEntryDTO>> childrenByParentId = new HashMap<>();
+
+        for (TableOfContentsEntryDTO entry : entries) {
+            if (entry.getParentId() == null) {
+                roots.add(entry);
+            } else {
+                childrenByParentId.computeIfAbsent(entry.getParentId(), k -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        Comparator<TableOfContentsEntryDTO> byPosition = Comparator.comparingInt(TableOfContentsEntryDTO::getPosition);
+        roots.sort(byPosition);
+        childrenByParentId.values().forEach(children -> children.sort(byPosition));
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("Document contains ").append(roots.size())
+                .append(" root section").append(roots.size() > 1 ? "s" : "")
+                .append(" which are: ");
+
+        appendSections(sb, roots, childrenByParentId);
+
+        return sb.toString();
+    }
+
+    private static void appendSections(StringBuilder sb, List<TableOfContentsEntryDTO> sections,
+                                       Map<UUID, List<TableOfContentsEntryDTO>> childrenByParentId) {
+        for (int i = 0; i < sections.size(); i++) {
+            if (i > 0) {
+                sb.append(" and ");
+            }
+            appendSection(sb, sections.get(i), childrenByParentId);
+        }
+    }
+
+    private static void appendSection(StringBuilder sb, TableOfContentsEntryDTO section,
+                                      Map<UUID, List<TableOfContentsEntryDTO>> childrenByParentId) {
+        sb.append("Section titled '").append(section.getTitle())
+                .append("' at level ").append(section.getLevel())
+                .append(" in position ").append(section.getPosition());
+
+        List<TableOfContentsEntryDTO> children = childrenByParentId.get(section.getId());
+
+        if (children == null || children.isEmpty()) {
+            sb.append(" with no subsections");
+        } else {
+            sb.append(" containing ").append(children.size())
+                    .append(" subsection").append(children.size() > 1 ? "s" : "")
+                    .append(" which are: ");
+
+            appendSections(sb, children, childrenByParentId);
+        }
+    }
+}
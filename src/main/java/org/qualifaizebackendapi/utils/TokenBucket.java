@@ -0,0 +1,89 @@
+package org.qualifaizebackendapi.utils;
+
+/**
+ * Rate limiter that refills continuously at a fixed rate up to a burst capacity.
+ * The balance can go negative through {@link #charge(long)}, which delays later acquisitions until the debt is repaid.
+ */
+public final class TokenBucket {
+
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+
+    private final double capacity;
+    private final double tokensPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(long tokensPerMinute, long capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.tokensPerNano = (double) tokensPerMinute / NANOS_PER_MINUTE;
+        this.tokens = this.capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Takes up to {@code requested} whole tokens without waiting.
+     *
+     * @return the number of tokens taken
+     */
+    public synchronized int tryAcquireUpTo(int requested) {
+        refill();
+        int acquired = (int) Math.min(requested, Math.floor(tokens));
+        tokens -= acquired;
+        return acquired;
+    }
+
+    /**
+     * Number of tokens {@link #tryAcquire(long)} takes for {@code requested}, which is capped at the capacity.
+     */
+    public long acquirable(long requested) {
+        return (long) Math.min(requested, capacity);
+    }
+
+    /**
+     * Takes {@code requested} tokens if they are all available. Requests above the capacity are
+     * treated as requests for the full capacity, so they can still pass once the bucket is full.
+     */
+    public synchronized boolean tryAcquire(long requested) {
+        refill();
+        double needed = Math.min(requested, capacity);
+        if (tokens < needed) {
+            return false;
+        }
+        tokens -= needed;
+        return true;
+    }
+
+    /**
+     * Time until {@code requested} tokens will be available if no one else takes any.
+     */
+    public synchronized long nanosUntilAvailable(long requested) {
+        refill();
+        double missing = Math.min(requested, capacity) - tokens;
+        if (missing <= 0) {
+            return 0;
+        }
+        return tokensPerNano > 0 ? (long) Math.ceil(missing / tokensPerNano) : Long.MAX_VALUE;
+    }
+
+    /**
+     * Takes tokens that were already used, going into debt if there are not enough.
+     */
+    public synchronized void charge(long used) {
+        refill();
+        tokens -= used;
+    }
+
+    /**
+     * Returns tokens that were taken but not used.
+     */
+    public synchronized void refund(long unused) {
+        tokens = Math.min(capacity, tokens + unused);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+    }
+}
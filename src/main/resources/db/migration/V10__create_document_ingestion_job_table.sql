@@ -0,0 +1,31 @@
+CREATE TYPE ingestion_job_status AS ENUM ('QUEUED', 'PROCESSING', 'COMPLETED', 'FAILED');
+
+CREATE TABLE document_ingestion_job
+(
+    id                    UUID PRIMARY KEY,
+    status                ingestion_job_status NOT NULL DEFAULT 'QUEUED',
+    file_name             VARCHAR(255)         NOT NULL,
+    secondary_file_name   VARCHAR(255)         NOT NULL,
+    document_id           UUID,
+    uploaded_by_user_id   UUID,
+    subsections_processed INTEGER              NOT NULL DEFAULT 0,
+    error_message         TEXT,
+    started_at            TIMESTAMPTZ,
+    finished_at           TIMESTAMPTZ,
+    created_at            TIMESTAMPTZ          NOT NULL DEFAULT now(),
+    updated_at            TIMESTAMPTZ          NOT NULL DEFAULT now(),
+
+    CONSTRAINT fk_ingestion_job_document
+        FOREIGN KEY (document_id)
+            REFERENCES document (id)
+            ON DELETE SET NULL,
+
+    CONSTRAINT fk_ingestion_job_uploaded_by_user
+        FOREIGN KEY (uploaded_by_user_id)
+            REFERENCES users (id)
+            ON DELETE SET NULL
+);
+
+COMMENT ON TABLE document_ingestion_job IS 'Tracks asynchronous PDF parsing and persistence jobs';
+COMMENT ON COLUMN document_ingestion_job.document_id IS 'Document created by the job. NULL until the job completes.';
+COMMENT ON COLUMN document_ingestion_job.error_message IS 'Failure reason when the job status is FAILED';
@@ -0,0 +1,4 @@
+ALTER TABLE question
+    ADD COLUMN section_title TEXT;
+
+COMMENT ON COLUMN question.section_title IS 'Title of the document section the question was generated from. NULL for questions created before it was tracked.';
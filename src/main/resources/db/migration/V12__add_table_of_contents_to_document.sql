@@ -0,0 +1,4 @@
+ALTER TABLE document
+    ADD COLUMN table_of_contents TEXT;
+
+COMMENT ON COLUMN document.table_of_contents IS 'Rendered table of contents sent to the LLM for section selection. Computed at ingestion, NULL for documents ingested before it was stored.';
@@ -0,0 +1,4 @@
+ALTER TABLE interview
+    ADD COLUMN performance_stats JSONB;
+
+COMMENT ON COLUMN interview.performance_stats IS 'Running performance aggregate updated on every submitted answer. NULL for interviews answered before it was tracked.';
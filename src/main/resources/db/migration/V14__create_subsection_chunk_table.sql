@@ -0,0 +1,13 @@
+CREATE TABLE subsection_chunk
+(
+    id            UUID PRIMARY KEY,
+    subsection_id UUID    NOT NULL REFERENCES subsection (id) ON DELETE CASCADE,
+    chunk_index   INTEGER NOT NULL CHECK (chunk_index >= 0),
+    content       TEXT    NOT NULL,
+    token_count   INTEGER NOT NULL CHECK (token_count >= 0),
+
+    CONSTRAINT uq_subsection_chunk_index UNIQUE (subsection_id, chunk_index)
+);
+
+COMMENT ON TABLE subsection_chunk IS 'Content of a subsection split into windows of bounded token size, in document order';
+COMMENT ON COLUMN subsection_chunk.token_count IS 'Estimated number of LLM tokens in the chunk content';
@@ -0,0 +1,30 @@
+CREATE TYPE review_job_status AS ENUM ('QUEUED', 'PROCESSING', 'COMPLETED', 'FAILED');
+
+CREATE TABLE interview_review_job
+(
+    id              UUID PRIMARY KEY,
+    interview_id    UUID              NOT NULL,
+    status          review_job_status NOT NULL DEFAULT 'QUEUED',
+    attempts        INTEGER           NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ       NOT NULL DEFAULT now(),
+    locked_by       VARCHAR(255),
+    locked_at       TIMESTAMPTZ,
+    error_message   TEXT,
+    finished_at     TIMESTAMPTZ,
+    created_at      TIMESTAMPTZ       NOT NULL DEFAULT now(),
+    updated_at      TIMESTAMPTZ       NOT NULL DEFAULT now(),
+
+    CONSTRAINT uq_interview_review_job_interview UNIQUE (interview_id),
+
+    CONSTRAINT fk_interview_review_job_interview
+        FOREIGN KEY (interview_id)
+            REFERENCES interview (id)
+            ON DELETE CASCADE
+);
+
+CREATE INDEX idx_interview_review_job_due ON interview_review_job (next_attempt_at) WHERE status = 'QUEUED';
+CREATE INDEX idx_interview_review_job_locked ON interview_review_job (locked_at) WHERE status = 'PROCESSING';
+
+COMMENT ON TABLE interview_review_job IS 'Queue of AI review generations for completed interviews, claimed by workers with FOR UPDATE SKIP LOCKED';
+COMMENT ON COLUMN interview_review_job.next_attempt_at IS 'Earliest time a worker may claim the job, pushed back exponentially after every failed attempt';
+COMMENT ON COLUMN interview_review_job.locked_by IS 'Worker that claimed the job. Claims older than the lease are taken over by other workers.';
@@ -0,0 +1,4 @@
+ALTER TABLE interview_review_job
+    ADD COLUMN batch BOOLEAN NOT NULL DEFAULT false;
+
+COMMENT ON COLUMN interview_review_job.batch IS 'Queued by an admin catch-up of unreviewed interviews. Claimed after regular jobs and at a limited rate.';
@@ -0,0 +1,4 @@
+ALTER TABLE users
+    ADD COLUMN token_version INTEGER NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN users.token_version IS 'Carried in issued JWTs. Incremented when roles or the username change, which revokes all earlier tokens of the user.';
@@ -0,0 +1,3 @@
+-- Keyset pagination of interview listings, newest first, for admins and for assigned users
+CREATE INDEX idx_interview_created_at_id ON interview (created_at DESC, id DESC);
+CREATE INDEX idx_interview_assigned_created_at_id ON interview (assigned_to_user_id, created_at DESC, id DESC);
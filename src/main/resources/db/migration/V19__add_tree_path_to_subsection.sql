@@ -0,0 +1,28 @@
+ALTER TABLE subsection
+    ADD COLUMN tree_path INTEGER[];
+
+-- Existing rows only have the parser positions, siblings sharing one keep the order of their ids
+WITH RECURSIVE sibling AS (
+    SELECT id, parent_id, (row_number() OVER (PARTITION BY document_id, parent_id ORDER BY position, id) - 1)::INTEGER AS idx
+    FROM subsection
+),
+subsection_tree AS (
+    SELECT id, ARRAY [idx] AS path
+    FROM sibling
+    WHERE parent_id IS NULL
+
+    UNION ALL
+
+    SELECT child.id, tree.path || child.idx
+    FROM sibling child
+             JOIN subsection_tree tree ON child.parent_id = tree.id
+)
+UPDATE subsection s
+SET tree_path = tree.path
+FROM subsection_tree tree
+WHERE s.id = tree.id;
+
+ALTER TABLE subsection
+    ALTER COLUMN tree_path SET NOT NULL;
+
+COMMENT ON COLUMN subsection.tree_path IS 'Index of the subsection among its siblings, preceded by those of its ancestors; sorting by it gives document order';
@@ -0,0 +1,25 @@
+ALTER TABLE subsection
+    ADD COLUMN concatenated_content TEXT;
+
+WITH RECURSIVE subsection_tree AS (
+    SELECT id, content, ARRAY [position] AS path, ARRAY [id] AS ancestors
+    FROM subsection
+    WHERE parent_id IS NULL
+
+    UNION ALL
+
+    SELECT child.id, child.content, tree.path || child.position, tree.ancestors || child.id
+    FROM subsection child
+             JOIN subsection_tree tree ON child.parent_id = tree.id
+)
+UPDATE subsection s
+SET concatenated_content = subtree.content
+FROM (SELECT ancestor.id, string_agg(tree.content, '' ORDER BY tree.path) AS content
+      FROM subsection_tree tree
+               CROSS JOIN LATERAL unnest(tree.ancestors) AS ancestor(id)
+      GROUP BY ancestor.id) subtree
+WHERE s.id = subtree.id;
+
+CREATE INDEX idx_subsection_document_lower_title ON subsection (document_id, LOWER(title));
+
+COMMENT ON COLUMN subsection.concatenated_content IS 'Content of the subsection followed by the content of all its descendants in document order';
@@ -0,0 +1,297 @@
+package org.qualifaizebackendapi.fixtures;
+
+import org.qualifaizebackendapi.DTO.QuestionDetailsDTO;
+import org.qualifaizebackendapi.model.InterviewPerformanceStats;
+import org.qualifaizebackendapi.model.enums.Difficulty;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The previous-questions analysis as it was built in QuestionServiceImpl with String.format, kept as the
+ * baseline for the prompt context builder. The full-mode output must stay identical to it.
+ */
+public final class LegacyPreviousQuestionsAnalysis {
+
+    private LegacyPreviousQuestionsAnalysis() {
+    }
+
+    public static String previousQuestionsAnalysisText(List<QuestionDetailsDTO> previousQuestions,
+                                                       InterviewPerformanceStats stats) {
+        if (previousQuestions == null || previousQuestions.isEmpty()) {
+            return "No previously asked questions in this interview. Start with baseline difficulty questions.";
+        }
+
+        int answeredCount = stats.getAnsweredCount();
+        int correctAnswers = stats.getCorrectCount();
+
+        double accuracyPercentage = stats.accuracyPercentage();
+        TimingAnalysis timingAnalysis = analyzeTimingPatterns(stats);
+
+        StringBuilder prompt = new StringBuilder();
+
+        prompt.append(String.format(
+                "INTERVIEW PERFORMANCE: %d questions answered, %.1f%% accuracy (%d correct, %d incorrect). ",
+                answeredCount,
+                accuracyPercentage,
+                correctAnswers,
+                answeredCount - correctAnswers
+        ));
+
+        prompt.append(String.format(
+                "TIMING: Average %.1fs per question, %s pace. ",
+                timingAnalysis.averageTimeSeconds,
+                timingAnalysis.paceDescription
+        ));
+
+        prompt.append(getDifficultyGuidance(accuracyPercentage, timingAnalysis));
+
+        if (answeredCount >= 3) {
+            prompt.append("\n\nDIFFICULTY PATTERNS: ");
+            addDifficultyPatternAnalysis(prompt, stats);
+        }
+
+        if (answeredCount >= 3) {
+            addPerformanceTrend(prompt, stats);
+        }
+
+        prompt.append("\n\nQUESTION HISTORY:\n");
+
+        for (int i = 0; i < previousQuestions.size(); i++) {
+            QuestionDetailsDTO question = previousQuestions.get(i);
+
+            prompt.append(String.format("%d. ", i + 1));
+
+            String questionText = question.getQuestionText();
+            prompt.append("Q: ").append(questionText);
+
+            String status = question.isSubmittedAnswerCorrect() ? "CORRECT" : "INCORRECT";
+            String timingInfo = formatAnswerTime(question.getAnswerTimeInMillis());
+
+            prompt.append(String.format(" | Answer: %s | Correct: %s | Result: %s | Time: %s | Difficulty: %s",
+                    question.getSubmittedAnswer(),
+                    question.getCorrectOption(),
+                    status,
+                    timingInfo,
+                    question.getDifficulty()
+            ));
+
+            if (i < previousQuestions.size() - 1) {
+                prompt.append("\n");
+            }
+        }
+
+        if (answeredCount >= 4) {
+            prompt.append("\n\nANSWER PATTERNS: ");
+            addAnswerPatternAnalysis(prompt, stats);
+        }
+
+        if (answeredCount >= 3) {
+            prompt.append("\n\nTIMING PATTERNS: ");
+            addTimingPatternAnalysis(prompt, stats, timingAnalysis);
+        }
+
+        return prompt.toString();
+    }
+
+    private record TimingAnalysis(double averageTimeSeconds, String paceDescription, boolean isRushed,
+                                  boolean isDeliberating) {
+    }
+
+    private static TimingAnalysis analyzeTimingPatterns(InterviewPerformanceStats stats) {
+        if (stats.getTimedAnswerCount() == 0) {
+            return new TimingAnalysis(0.0, "unknown", false, false);
+        }
+
+        double averageSeconds = stats.averageAnswerTimeSeconds();
+
+        boolean isRushed = averageSeconds < 10;
+        boolean isDeliberating = averageSeconds > 120;
+
+        String paceDescription;
+        if (isRushed) {
+            paceDescription = "very fast (possibly guessing)";
+        } else if (isDeliberating) {
+            paceDescription = "very slow (thorough consideration)";
+        } else if (averageSeconds < 30) {
+            paceDescription = "fast (confident)";
+        } else if (averageSeconds < 60) {
+            paceDescription = "moderate (normal thinking)";
+        } else {
+            paceDescription = "slow (careful analysis)";
+        }
+
+        return new TimingAnalysis(averageSeconds, paceDescription, isRushed, isDeliberating);
+    }
+
+    private static String getDifficultyGuidance(double accuracyPercentage, TimingAnalysis timing) {
+        StringBuilder guidance = new StringBuilder("GUIDANCE: ");
+
+        if (accuracyPercentage >= 80) {
+            if (timing.isRushed) {
+                guidance.append("Excellent accuracy with fast responses - candidate very confident, increase complexity significantly. ");
+            } else if (timing.isDeliberating) {
+                guidance.append("Excellent accuracy but slow responses - candidate careful, moderate difficulty increase. ");
+            } else {
+                guidance.append("Excellent performance with good timing - increase difficulty and complexity. ");
+            }
+        } else if (accuracyPercentage >= 60) {
+            if (timing.isRushed) {
+                guidance.append("Good accuracy but rushing - may benefit from slightly harder questions to slow down thinking. ");
+            } else {
+                guidance.append("Good performance - maintain current difficulty with slight increases. ");
+            }
+        } else if (accuracyPercentage >= 40) {
+            if (timing.isDeliberating) {
+                guidance.append("Struggling despite careful consideration - use easier questions with clear explanations. ");
+            } else {
+                guidance.append("Moderate performance - focus on core concepts, avoid advanced topics. ");
+            }
+        } else {
+            if (timing.isRushed) {
+                guidance.append("Poor accuracy with fast responses - candidate likely guessing, use very basic questions. ");
+            } else {
+                guidance.append("Poor performance - use fundamental questions with detailed explanations. ");
+            }
+        }
+
+        return guidance.toString();
+    }
+
+    private static void addPerformanceTrend(StringBuilder prompt, InterviewPerformanceStats stats) {
+        List<InterviewPerformanceStats.RecentAnswer> window = stats.getRecentAnswers();
+        int recentCount = Math.min(3, window.size());
+
+        long recentCorrect = 0;
+        long recentTotalTime = 0;
+        int recentTimedCount = 0;
+
+        for (InterviewPerformanceStats.RecentAnswer answer : window.subList(window.size() - recentCount, window.size())) {
+            if (answer.correct()) {
+                recentCorrect++;
+            }
+            if (answer.answerTimeInMillis() != null && answer.answerTimeInMillis() > 0) {
+                recentTotalTime += answer.answerTimeInMillis();
+                recentTimedCount++;
+            }
+        }
+
+        double recentAvgTime = (recentTimedCount == 0 ? 0.0 : (double) recentTotalTime / recentTimedCount) / 1000.0;
+
+        if (recentCorrect == recentCount) {
+            prompt.append("TREND: Last ").append(recentCount).append(" answers all correct");
+            if (recentAvgTime < 20) {
+                prompt.append(" with fast responses - candidate very confident, ready for harder questions. ");
+            } else {
+                prompt.append(" - candidate improving, ready for moderate difficulty increase. ");
+            }
+        } else if (recentCorrect == 0) {
+            prompt.append("TREND: Last ").append(recentCount).append(" answers all wrong");
+            if (recentAvgTime > 60) {
+                prompt.append(" despite slow consideration - reduce difficulty significantly. ");
+            } else {
+                prompt.append(" - candidate struggling, reduce difficulty. ");
+            }
+        } else {
+            prompt.append("TREND: Mixed recent performance (")
+                    .append(recentCorrect).append("/").append(recentCount)
+                    .append(" correct) with ").append(String.format("%.1fs", recentAvgTime))
+                    .append(" average time - maintain current difficulty level. ");
+        }
+    }
+
+    private static void addTimingPatternAnalysis(StringBuilder prompt, InterviewPerformanceStats stats, TimingAnalysis overall) {
+        int incorrectCount = stats.getAnsweredCount() - stats.getCorrectCount();
+
+        if (stats.getCorrectCount() > 0 && incorrectCount > 0) {
+            double avgCorrectTime = averageSeconds(stats.getCorrectAnswerTimeMillis(), stats.getCorrectTimedAnswerCount());
+            double avgIncorrectTime = averageSeconds(stats.getIncorrectAnswerTimeMillis(), stats.getIncorrectTimedAnswerCount());
+
+            if (avgCorrectTime > 0 && avgIncorrectTime > 0) {
+                if (avgCorrectTime < avgIncorrectTime * 0.7) {
+                    prompt.append("Correct answers are significantly faster (")
+                            .append(String.format("%.1fs vs %.1fs", avgCorrectTime, avgIncorrectTime))
+                            .append(") - candidate confident when they know the answer. ");
+                } else if (avgIncorrectTime < avgCorrectTime * 0.7) {
+                    prompt.append("Incorrect answers are faster (")
+                            .append(String.format("%.1fs vs %.1fs", avgIncorrectTime, avgCorrectTime))
+                            .append(") - candidate may be guessing when uncertain. ");
+                } else {
+                    prompt.append("Similar timing for correct and incorrect answers - consistent thinking process. ");
+                }
+            }
+        }
+
+        if (overall.isRushed) {
+            prompt.append("Overall very fast responses suggest confidence or impulsiveness. ");
+        } else if (overall.isDeliberating) {
+            prompt.append("Overall slow responses indicate careful consideration or uncertainty. ");
+        }
+    }
+
+    private static String formatAnswerTime(Long timeInMillis) {
+        if (timeInMillis == null || timeInMillis <= 0) {
+            return "unknown";
+        }
+
+        double seconds = timeInMillis / 1000.0;
+
+        if (seconds < 60) {
+            return String.format("%.1fs", seconds);
+        } else {
+            int minutes = (int) (seconds / 60);
+            int remainingSeconds = (int) (seconds % 60);
+            return String.format("%dm %ds", minutes, remainingSeconds);
+        }
+    }
+
+    private static double averageSeconds(long totalMillis, int count) {
+        return (count == 0 ? 0.0 : (double) totalMillis / count) / 1000.0;
+    }
+
+    private static void addAnswerPatternAnalysis(StringBuilder prompt, InterviewPerformanceStats stats) {
+        int[] answerCounts = stats.getAnswerCounts();
+
+        int mostCommonIndex = -1;
+        for (int i = 0; i < answerCounts.length; i++) {
+            if (answerCounts[i] > 0 && (mostCommonIndex < 0 || answerCounts[i] > answerCounts[mostCommonIndex])) {
+                mostCommonIndex = i;
+            }
+        }
+
+        if (mostCommonIndex >= 0) {
+            char commonAnswer = (char) ('A' + mostCommonIndex);
+            double percentage = (double) answerCounts[mostCommonIndex] / stats.getAnsweredCount() * 100;
+
+            if (percentage > 50) {
+                prompt.append(String.format("Candidate favors option %s (%.0f%% of answers) - avoid making this the correct answer too often. ",
+                        commonAnswer, percentage));
+            } else {
+                prompt.append("Balanced answer distribution - good variety in question design. ");
+            }
+        }
+    }
+
+    private static void addDifficultyPatternAnalysis(StringBuilder prompt, InterviewPerformanceStats stats) {
+        String bestDifficulty = "MEDIUM";
+        double bestAccuracy = -1;
+
+        for (Map.Entry<Difficulty, InterviewPerformanceStats.DifficultyStats> entry : stats.getByDifficulty().entrySet()) {
+            String difficulty = entry.getKey().toString();
+            InterviewPerformanceStats.DifficultyStats difficultyStats = entry.getValue();
+
+            double accuracy = (double) difficultyStats.getCorrectCount() / difficultyStats.getAnsweredCount() * 100;
+            double avgTime = averageSeconds(difficultyStats.getTotalAnswerTimeMillis(), difficultyStats.getTimedAnswerCount());
+
+            prompt.append(String.format("%s: %.0f%% accuracy (%.1fs avg) ",
+                    difficulty, accuracy, avgTime));
+
+            if (accuracy > bestAccuracy) {
+                bestAccuracy = accuracy;
+                bestDifficulty = difficulty;
+            }
+        }
+
+        prompt.append(String.format("- Best performance on %s questions. ", bestDifficulty));
+    }
+}
@@ -0,0 +1,197 @@
+package org.qualifaizebackendapi.fixtures;
+
+import org.qualifaizebackendapi.DTO.QuestionDetailsDTO;
+import org.qualifaizebackendapi.DTO.TableOfContentsEntryDTO;
+import org.qualifaizebackendapi.model.Document;
+import org.qualifaizebackendapi.model.Interview;
+import org.qualifaizebackendapi.model.Question;
+import org.qualifaizebackendapi.model.Subsection;
+import org.qualifaizebackendapi.model.User;
+import org.qualifaizebackendapi.model.enums.Difficulty;
+import org.qualifaizebackendapi.model.enums.Role;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Deterministic generators of realistic inputs for tests and benchmarks.
+ */
+public final class SyntheticData {
+
+    private static final String[] OPTIONS = {"A", "B", "C", "D"};
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+    private static final OffsetDateTime BASE_TIME = OffsetDateTime.parse("2025-01-01T10:00:00Z");
+
+    private SyntheticData() {
+    }
+
+    /**
+     * Answered questions of one interview. Answer times are mostly between 3 seconds and 3 minutes,
+     * with some whole-second values that land exactly on the calculator's thresholds.
+     */
+    public static List<QuestionDetailsDTO> answeredQuestions(Random random, int count) {
+        List<QuestionDetailsDTO> questions = new ArrayList<>(count);
+        OffsetDateTime askedAt = BASE_TIME;
+
+        for (int i = 0; i < count; i++) {
+            long answerTimeMillis = switch (random.nextInt(10)) {
+                case 0 -> 0L;
+                case 1 -> (random.nextInt(180) + 1) * 1000L;
+                default -> 3000L + random.nextInt(177000);
+            };
+
+            OffsetDateTime answeredAt = askedAt.plusNanos(answerTimeMillis * 1_000_000L);
+            questions.add(new QuestionDetailsDTO(
+                    "Synthetic question " + i + " about section " + random.nextInt(50),
+                    OPTIONS[random.nextInt(OPTIONS.length)],
+                    OPTIONS[random.nextInt(OPTIONS.length)],
+                    askedAt,
+                    answeredAt,
+                    DIFFICULTIES[random.nextInt(DIFFICULTIES.length)],
+                    "Section " + random.nextInt(50)
+            ));
+            askedAt = answeredAt.plusSeconds(1);
+        }
+
+        return questions;
+    }
+
+    /**
+     * Flat subsections of one document as they are loaded from the database, in no particular order.
+     * Every section has {@code fanOut} children down to {@code depth} levels.
+     */
+    public static List<Subsection> subsections(Random random, Document document, int rootCount, int fanOut, int depth) {
+        List<Subsection> subsections = new ArrayList<>();
+        for (int position = 0; position < rootCount; position++) {
+            addSubsection(random, subsections, document, null, position, 1, fanOut, depth);
+        }
+        Collections.shuffle(subsections, random);
+        return subsections;
+    }
+
+    private static void addSubsection(Random random, List<Subsection> subsections, Document document, Subsection parent,
+                                      int position, int level, int fanOut, int depth) {
+        Subsection subsection = new Subsection();
+        subsection.setId(new UUID(random.nextLong(), random.nextLong()));
+        subsection.setDocument(document);
+        subsection.setParent(parent);
+        subsection.setTitle((parent == null ? "" : parent.getTitle() + ".") + (position + 1) + " Synthetic section");
+        subsection.setContent(sentences(random, 20));
+        subsection.setPosition(position);
+        subsection.setLevel(level);
+        subsection.setTreePath(parent == null
+                ? new int[]{position}
+                : IntStream.concat(IntStream.of(parent.getTreePath()), IntStream.of(position)).toArray());
+        subsections.add(subsection);
+
+        if (level < depth) {
+            for (int childPosition = 0; childPosition < fanOut; childPosition++) {
+                addSubsection(random, subsections, document, subsection, childPosition, level + 1, fanOut, depth);
+            }
+        }
+    }
+
+    public static List<TableOfContentsEntryDTO> tableOfContentsEntries(List<Subsection> subsections) {
+        List<TableOfContentsEntryDTO> entries = new ArrayList<>(subsections.size());
+        for (Subsection subsection : subsections) {
+            entries.add(new TableOfContentsEntryDTO(
+                    subsection.getId(),
+                    subsection.getParent() == null ? null : subsection.getParent().getId(),
+                    subsection.getTitle(),
+                    subsection.getLevel(),
+                    subsection.getPosition()
+            ));
+        }
+        return entries;
+    }
+
+    public static User user(Random random) {
+        User user = new User();
+        user.setId(new UUID(random.nextLong(), random.nextLong()));
+        user.setUsername("user" + random.nextInt(1_000_000));
+        user.setPassword("$2a$10$" + sentences(random, 1));
+        user.setFirstName("First" + random.nextInt(1000));
+        user.setLastName("Last" + random.nextInt(1000));
+        user.setEmail(user.getUsername() + "@example.com");
+        user.setCreatedAt(BASE_TIME.minusDays(random.nextInt(365)));
+        user.setUpdatedAt(user.getCreatedAt());
+        user.setRoles(Set.of(Role.USER));
+        return user;
+    }
+
+    public static Document document(Random random, User uploadedBy) {
+        Document document = new Document();
+        document.setId(new UUID(random.nextLong(), random.nextLong()));
+        document.setFileName("synthetic-" + random.nextInt(1000) + ".pdf");
+        document.setSecondaryFileName("Synthetic document " + random.nextInt(1_000_000));
+        document.setCreatedAt(BASE_TIME);
+        document.setUploadedByUser(uploadedBy);
+        return document;
+    }
+
+    /**
+     * An interview with {@code questionCount} answered questions. The status is left as scheduled because
+     * status transitions stamp the current time.
+     */
+    public static Interview completedInterview(Random random, Document document, User createdBy, User assignedTo,
+                                        int questionCount) {
+        Interview interview = new Interview();
+        interview.setId(new UUID(random.nextLong(), random.nextLong()));
+        interview.setName("Synthetic interview " + random.nextInt(1000));
+        interview.setDescription(sentences(random, 2));
+        interview.setDifficulty(DIFFICULTIES[random.nextInt(DIFFICULTIES.length)]);
+        interview.setScheduledDate(BASE_TIME);
+        interview.setDocument(document);
+        interview.setCreatedByUser(createdBy);
+        interview.setAssignedToUser(assignedTo);
+        interview.setCreatedAt(BASE_TIME);
+        interview.setUpdatedAt(BASE_TIME);
+
+        OffsetDateTime askedAt = BASE_TIME.plusMinutes(5);
+
+        for (int i = 0; i < questionCount; i++) {
+            Question question = new Question();
+            question.setId(new UUID(random.nextLong(), random.nextLong()));
+            question.setInterview(interview);
+            question.setQuestionText("Synthetic question " + i + ": " + sentences(random, 1));
+            question.setDifficulty(DIFFICULTIES[random.nextInt(DIFFICULTIES.length)]);
+            question.setOptionA(sentences(random, 1));
+            question.setOptionB(sentences(random, 1));
+            question.setOptionC(sentences(random, 1));
+            question.setOptionD(sentences(random, 1));
+            question.setCorrectOption(OPTIONS[random.nextInt(OPTIONS.length)]);
+            question.setExplanation(sentences(random, 2));
+            question.setSectionTitle("Section " + random.nextInt(50));
+            question.setQuestionOrder(i + 1);
+            question.setCreatedAt(askedAt);
+            question.setSubmittedAnswer(OPTIONS[random.nextInt(OPTIONS.length)]);
+            question.setAnsweredAt(askedAt.plusSeconds(3 + random.nextInt(177)));
+            question.setUpdatedAt(question.getAnsweredAt());
+            interview.getQuestions().add(question);
+
+            askedAt = question.getAnsweredAt().plusSeconds(1);
+        }
+
+        interview.setStartTime(BASE_TIME.plusMinutes(5));
+        interview.setEndTime(askedAt);
+        return interview;
+    }
+
+    private static String sentences(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append("Synthetic sentence ").append(random.nextInt(100_000))
+                    .append(" describing a concept of the document in moderate detail.");
+        }
+        return text.toString();
+    }
+}
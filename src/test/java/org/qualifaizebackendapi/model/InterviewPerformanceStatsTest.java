@@ -0,0 +1,85 @@
+package org.qualifaizebackendapi.model;
+
+import org.junit.jupiter.api.Test;
+import org.qualifaizebackendapi.DTO.QuestionDetailsDTO;
+import org.qualifaizebackendapi.fixtures.SyntheticData;
+import org.qualifaizebackendapi.model.enums.Difficulty;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InterviewPerformanceStatsTest {
+
+    @Test
+    void countsAnswersByOutcomeTimeAndDifficulty() {
+        InterviewPerformanceStats stats = new InterviewPerformanceStats();
+
+        stats.recordAnswer(Difficulty.EASY, "Intro", "a", true, 5_000L);
+        stats.recordAnswer(Difficulty.HARD, "Intro", "C", false, 30_000L);
+        stats.recordAnswer(Difficulty.HARD, "Details", "d", true, null);
+        stats.recordAnswer(Difficulty.MEDIUM, " ", "X", false, 0L);
+
+        assertThat(stats.getAnsweredCount()).isEqualTo(4);
+        assertThat(stats.getCorrectCount()).isEqualTo(2);
+        assertThat(stats.getTimedAnswerCount()).isEqualTo(2);
+        assertThat(stats.getTotalAnswerTimeMillis()).isEqualTo(35_000L);
+        assertThat(stats.getCorrectTimedAnswerCount()).isEqualTo(1);
+        assertThat(stats.getIncorrectTimedAnswerCount()).isEqualTo(1);
+        assertThat(stats.getFastAnswerCount()).isEqualTo(2);
+        assertThat(stats.getFastCorrectCount()).isEqualTo(1);
+        assertThat(stats.getAnswerCounts()).containsExactly(1, 0, 1, 1);
+
+        assertThat(stats.getByDifficulty().get(Difficulty.HARD).getAnsweredCount()).isEqualTo(2);
+        assertThat(stats.getByDifficulty().get(Difficulty.HARD).getCorrectCount()).isEqualTo(1);
+        assertThat(stats.getByDifficulty().get(Difficulty.HARD).getTimedAnswerCount()).isEqualTo(1);
+
+        assertThat(stats.accuracyPercentage()).isEqualTo(50.0);
+        assertThat(stats.averageAnswerTimeSeconds()).isEqualTo(17.5);
+        assertThat(stats.getLastDifficulty()).isEqualTo(Difficulty.MEDIUM);
+        assertThat(stats.getCoveredSections()).containsExactlyInAnyOrder("Intro", "Details");
+    }
+
+    @Test
+    void keepsOnlyTheMostRecentAnswers() {
+        InterviewPerformanceStats stats = new InterviewPerformanceStats();
+        for (long i = 1; i <= InterviewPerformanceStats.RECENT_WINDOW_SIZE + 3; i++) {
+            stats.recordAnswer(Difficulty.EASY, "Intro", "A", i % 2 == 0, i * 1_000);
+        }
+
+        assertThat(stats.getRecentAnswers())
+                .hasSize(InterviewPerformanceStats.RECENT_WINDOW_SIZE)
+                .first()
+                .isEqualTo(new InterviewPerformanceStats.RecentAnswer(true, 4_000L));
+    }
+
+    @Test
+    void noTimedAnswersAverageToZero() {
+        InterviewPerformanceStats stats = new InterviewPerformanceStats();
+        stats.recordAnswer(Difficulty.EASY, "Intro", "A", true, null);
+
+        assertThat(stats.compensatedAverageAnswerTimeSeconds()).isZero();
+        assertThat(stats.averageAnswerTimeSeconds()).isZero();
+    }
+
+    @Test
+    void compensatedAverageMatchesDoubleStreamAverage() {
+        Random random = new Random(11);
+        for (int i = 0; i < 10_000; i++) {
+            List<QuestionDetailsDTO> history = SyntheticData.answeredQuestions(random, 1 + random.nextInt(25));
+
+            double expected = history.stream()
+                    .map(QuestionDetailsDTO::getAnswerTimeInMillis)
+                    .filter(Objects::nonNull)
+                    .filter(time -> time > 0)
+                    .mapToDouble(time -> time / 1000.0)
+                    .average()
+                    .orElse(0.0);
+
+            assertThat(InterviewPerformanceStats.from(history).compensatedAverageAnswerTimeSeconds())
+                    .isEqualTo(expected);
+        }
+    }
+}
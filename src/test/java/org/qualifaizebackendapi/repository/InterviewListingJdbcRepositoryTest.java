@@ -0,0 +1,43 @@
+package org.qualifaizebackendapi.repository;
+
+import org.junit.jupiter.api.Test;
+import org.qualifaizebackendapi.repository.InterviewListingJdbcRepository.Cursor;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class InterviewListingJdbcRepositoryTest {
+
+    @Test
+    void cursorSurvivesEncoding() {
+        Cursor cursor = new Cursor(OffsetDateTime.parse("2025-03-04T05:06:07.123456Z"), UUID.randomUUID());
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        assertThat(Cursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void cursorIsDecodedInUtc() {
+        OffsetDateTime createdAt = OffsetDateTime.parse("2025-03-04T07:06:07+02:00");
+        UUID id = UUID.randomUUID();
+
+        Cursor decoded = Cursor.decode(new Cursor(createdAt, id).encode());
+
+        assertThat(decoded.createdAt()).isEqualTo(createdAt.withOffsetSameInstant(ZoneOffset.UTC));
+        assertThat(decoded.createdAt().toInstant()).isEqualTo(createdAt.toInstant());
+        assertThat(decoded.id()).isEqualTo(id);
+    }
+
+    @Test
+    void invalidCursorIsRejected() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Cursor.decode("not a cursor!"));
+        assertThatIllegalArgumentException().isThrownBy(() -> Cursor.decode(""));
+        assertThatIllegalArgumentException().isThrownBy(() -> Cursor.decode("MjAyNS0wMy0wNA"));
+    }
+}
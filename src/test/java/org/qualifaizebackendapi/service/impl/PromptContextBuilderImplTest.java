@@ -0,0 +1,38 @@
+package org.qualifaizebackendapi.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.qualifaizebackendapi.DTO.QuestionDetailsDTO;
+import org.qualifaizebackendapi.fixtures.LegacyPreviousQuestionsAnalysis;
+import org.qualifaizebackendapi.fixtures.SyntheticData;
+import org.qualifaizebackendapi.model.InterviewPerformanceStats;
+import org.qualifaizebackendapi.model.enums.PromptContextMode;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PromptContextBuilderImplTest {
+
+    private static final int EQUIVALENCE_CHECKS = 20_000;
+
+    private final QuestionHistoryCompressor compressor = new QuestionHistoryCompressor(
+            new JTokkitTokenCountEstimator(), new SimpleMeterRegistry(), 5, 400, 20_000);
+
+    @Test
+    void fullModeMatchesStringFormatAnalysis() {
+        PromptContextBuilderImpl builder = new PromptContextBuilderImpl(compressor, PromptContextMode.FULL);
+
+        Random random = new Random(7);
+        for (int i = 0; i < EQUIVALENCE_CHECKS; i++) {
+            List<QuestionDetailsDTO> history = SyntheticData.answeredQuestions(random, 1 + random.nextInt(25));
+            InterviewPerformanceStats stats = InterviewPerformanceStats.from(history);
+
+            assertThat(builder.buildPreviousQuestionsAnalysis(history, stats))
+                    .as("analysis of %d answers", history.size())
+                    .isEqualTo(LegacyPreviousQuestionsAnalysis.previousQuestionsAnalysisText(history, stats));
+        }
+    }
+}
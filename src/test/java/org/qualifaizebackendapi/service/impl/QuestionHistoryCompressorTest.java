@@ -0,0 +1,124 @@
+package org.qualifaizebackendapi.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.qualifaizebackendapi.DTO.QuestionDetailsDTO;
+import org.qualifaizebackendapi.model.enums.Difficulty;
+import org.springframework.ai.content.MediaContent;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionHistoryCompressorTest {
+
+    private static final int QUESTIONS = 8;
+    private static final int VERBATIM_QUESTIONS = 3;
+
+    // Fixed line costs, so the budgets below decide exactly how far the history is compressed
+    private static final int VERBATIM_LINE_TOKENS = 10;
+    private static final int SUMMARY_LINE_TOKENS = 2;
+
+    // 5 summary lines and 3 verbatim questions
+    private static final int UNCOMPRESSED_TOKENS = 5 * SUMMARY_LINE_TOKENS + 3 * VERBATIM_LINE_TOKENS;
+
+    private static final TokenCountEstimator LINE_COSTS = new TokenCountEstimator() {
+        @Override
+        public int estimate(String text) {
+            return text.contains(" Q: ") ? VERBATIM_LINE_TOKENS : SUMMARY_LINE_TOKENS;
+        }
+
+        @Override
+        public int estimate(MediaContent content) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int estimate(Iterable<MediaContent> messages) {
+            throw new UnsupportedOperationException();
+        }
+    };
+
+    @Test
+    void keepsTheLastQuestionsVerbatimWithinTheBudget() {
+        List<String> lines = compressedHistory(UNCOMPRESSED_TOKENS);
+
+        assertThat(lines).hasSize(QUESTIONS);
+        for (int i = 0; i < 5; i++) {
+            assertThat(lines.get(i)).startsWith((i + 1) + ". [Section " + (i + 1) + "]");
+        }
+        assertThat(lines.subList(5, 8)).containsExactly(
+                verbatimLine(6), verbatimLine(7), verbatimLine(8));
+    }
+
+    @Test
+    void foldsTheOldestSummariesIntoTheEarlierQuestionsCountFirst() {
+        List<String> lines = compressedHistory(UNCOMPRESSED_TOKENS - 2 * SUMMARY_LINE_TOKENS);
+
+        assertThat(lines).hasSize(7);
+        assertThat(lines.get(0)).isEqualTo("1-2. Earlier questions: 1 correct, 1 incorrect");
+        assertThat(lines.get(1)).startsWith("3. [Section 3]");
+        assertThat(lines.get(3)).startsWith("5. [Section 5]");
+        assertThat(lines.subList(4, 7)).containsExactly(
+                verbatimLine(6), verbatimLine(7), verbatimLine(8));
+    }
+
+    @Test
+    void summarizesVerbatimQuestionsOnlyOnceAllSummariesAreFolded() {
+        // Folding every summary still leaves 30 tokens, summarizing question 6 brings it down to 22
+        List<String> lines = compressedHistory(25);
+
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0)).isEqualTo("1-5. Earlier questions: 3 correct, 2 incorrect");
+        assertThat(lines.get(1)).startsWith("6. [Section 6]");
+        assertThat(lines.subList(2, 4)).containsExactly(verbatimLine(7), verbatimLine(8));
+    }
+
+    @Test
+    void neverDropsTheLatestQuestion() {
+        List<String> lines = compressedHistory(0);
+
+        assertThat(lines).containsExactly(
+                "1-7. Earlier questions: 4 correct, 3 incorrect",
+                verbatimLine(8));
+    }
+
+    // Only the question text is checked in verbatim lines, so they are cut after it
+    private static List<String> compressedHistory(int historyTokenBudget) {
+        QuestionHistoryCompressor compressor = new QuestionHistoryCompressor(
+                LINE_COSTS, new SimpleMeterRegistry(), VERBATIM_QUESTIONS, historyTokenBudget, 100);
+
+        StringBuilder prompt = new StringBuilder();
+        compressor.appendHistory(prompt, questions(), true);
+        return Arrays.stream(prompt.toString().split("\n"))
+                .map(line -> line.split(" \\| ")[0])
+                .toList();
+    }
+
+    private static String verbatimLine(int order) {
+        return order + ". Q: Question " + order;
+    }
+
+    // Odd questions are answered correctly
+    private static List<QuestionDetailsDTO> questions() {
+        OffsetDateTime askedAt = OffsetDateTime.parse("2025-01-01T10:00:00Z");
+        List<QuestionDetailsDTO> questions = new ArrayList<>(QUESTIONS);
+        for (int order = 1; order <= QUESTIONS; order++) {
+            questions.add(new QuestionDetailsDTO(
+                    "Question " + order,
+                    "A",
+                    order % 2 == 1 ? "A" : "B",
+                    askedAt,
+                    askedAt.plusSeconds(30),
+                    Difficulty.values()[0],
+                    "Section " + order
+            ));
+            askedAt = askedAt.plusMinutes(1);
+        }
+        return questions;
+    }
+}
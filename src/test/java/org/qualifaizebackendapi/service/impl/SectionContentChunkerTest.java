@@ -0,0 +1,92 @@
+package org.qualifaizebackendapi.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.qualifaizebackendapi.service.impl.SectionContentChunker.ContentChunk;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SectionContentChunkerTest {
+
+    private static final int MAX_CHUNK_TOKENS = 50;
+
+    private final TokenCountEstimator tokenCountEstimator = new JTokkitTokenCountEstimator();
+    private final SectionContentChunker chunker = new SectionContentChunker(tokenCountEstimator, MAX_CHUNK_TOKENS);
+
+    @Test
+    void emptyContentHasNoChunks() {
+        assertThat(chunker.chunk(null)).isEmpty();
+        assertThat(chunker.chunk(" \n ")).isEmpty();
+    }
+
+    @Test
+    void shortContentIsOneChunk() {
+        String content = "A short section.\n\nWith two paragraphs.";
+
+        assertThat(chunker.chunk(content)).containsExactly(
+                new ContentChunk(content, tokenCountEstimator.estimate(content)));
+    }
+
+    @Test
+    void paragraphsAreKeptWhole() {
+        String paragraph = "This paragraph has a handful of words in a single sentence";
+        String content = String.join("\n\n", paragraph, paragraph, paragraph, paragraph, paragraph, paragraph);
+
+        List<ContentChunk> chunks = chunker.chunk(content);
+
+        assertThat(chunks).hasSizeGreaterThan(1);
+        assertWithinLimit(chunks);
+        assertThat(chunks).allSatisfy(chunk ->
+                assertThat(chunk.content().split("\n\n")).containsOnly(paragraph));
+    }
+
+    @Test
+    void longParagraphsAreSplitBetweenSentences() {
+        String sentence = "Every sentence here is short enough to fit into a chunk on its own.";
+        String content = (sentence + " ").repeat(20).trim();
+
+        List<ContentChunk> chunks = chunker.chunk(content);
+
+        assertThat(chunks).hasSizeGreaterThan(1);
+        assertWithinLimit(chunks);
+        assertThat(String.join(" ", chunks.stream().map(ContentChunk::content).toList())).isEqualTo(content);
+    }
+
+    @Test
+    void cutPiecesStayWithinLimitWhenTokensAreShort() {
+        // Random digits and symbols take well under two characters per token
+        Random random = new Random(5);
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < 2_000; i++) {
+            sentence.append((char) ('!' + random.nextInt(94)));
+        }
+        String content = sentence.toString().replace('.', ',').replace('!', ',').replace('?', ',');
+
+        List<ContentChunk> chunks = chunker.chunk(content);
+
+        assertWithinLimit(chunks);
+        assertThat(String.join("", chunks.stream().map(ContentChunk::content).toList())).isEqualTo(content);
+    }
+
+    @Test
+    void cutPiecesDoNotSplitSurrogatePairs() {
+        String content = "😀".repeat(400);
+
+        List<ContentChunk> chunks = chunker.chunk(content);
+
+        assertWithinLimit(chunks);
+        assertThat(chunks).allSatisfy(chunk ->
+                assertThat(chunk.content().codePoints()).containsOnly(0x1F600));
+    }
+
+    private void assertWithinLimit(List<ContentChunk> chunks) {
+        assertThat(chunks).allSatisfy(chunk -> {
+            assertThat(chunk.tokenCount()).isLessThanOrEqualTo(MAX_CHUNK_TOKENS);
+            assertThat(tokenCountEstimator.estimate(chunk.content())).isLessThanOrEqualTo(MAX_CHUNK_TOKENS);
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package org.qualifaizebackendapi.utils;
+
+import org.junit.jupiter.api.Test;
+import org.qualifaizebackendapi.DTO.QuestionDetailsDTO;
+import org.qualifaizebackendapi.fixtures.LegacyInterviewProgressCalculator;
+import org.qualifaizebackendapi.fixtures.SyntheticData;
+import org.qualifaizebackendapi.model.InterviewPerformanceStats;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InterviewProgressCalculatorTest {
+
+    private static final int EQUIVALENCE_CHECKS = 100_000;
+
+    @Test
+    void noAnswersMeansNoProgress() {
+        assertThat(InterviewProgressCalculator.calculateProgress((List<QuestionDetailsDTO>) null)).isZero();
+        assertThat(InterviewProgressCalculator.calculateProgress(List.of())).isZero();
+        assertThat(InterviewProgressCalculator.calculateProgress(new InterviewPerformanceStats())).isZero();
+    }
+
+    @Test
+    void twentyFiveAnswersCompleteTheInterview() {
+        List<QuestionDetailsDTO> history = SyntheticData.answeredQuestions(new Random(1), 25);
+
+        assertThat(InterviewProgressCalculator.calculateProgress(history)).isEqualTo(100);
+    }
+
+    @Test
+    void matchesStreamBasedImplementation() {
+        Random random = new Random(7);
+        for (int i = 0; i < EQUIVALENCE_CHECKS; i++) {
+            List<QuestionDetailsDTO> history = SyntheticData.answeredQuestions(random, 1 + random.nextInt(25));
+            int expected = LegacyInterviewProgressCalculator.calculateProgress(history);
+
+            assertThat(InterviewProgressCalculator.calculateProgress(history))
+                    .as("progress of %d answers from the list", history.size())
+                    .isEqualTo(expected);
+            assertThat(InterviewProgressCalculator.calculateProgress(InterviewPerformanceStats.from(history)))
+                    .as("progress of %d answers from the aggregate", history.size())
+                    .isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.qualifaizebackendapi.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PromptNumberFormatTest {
+
+    @Test
+    void oneDecimalMatchesStringFormat() {
+        assertFormatted(0.0, PromptNumberFormat::appendOneDecimal, "0.0");
+        assertFormatted(0.05, PromptNumberFormat::appendOneDecimal, "0.1");
+        assertFormatted(12.25, PromptNumberFormat::appendOneDecimal, "12.3");
+        assertFormatted(99.96, PromptNumberFormat::appendOneDecimal, "100.0");
+
+        Random random = new Random(3);
+        for (int i = 0; i < 10_000; i++) {
+            int millis = random.nextInt(600_000);
+            double seconds = millis / 1000.0;
+            assertFormatted(seconds, PromptNumberFormat::appendOneDecimal, String.format(Locale.ROOT, "%.1f", seconds));
+        }
+    }
+
+    @Test
+    void noDecimalsMatchesStringFormat() {
+        assertFormatted(0.0, PromptNumberFormat::appendNoDecimals, "0");
+        assertFormatted(0.5, PromptNumberFormat::appendNoDecimals, "1");
+        assertFormatted(66.66666666666667, PromptNumberFormat::appendNoDecimals, "67");
+
+        for (int correct = 0; correct <= 25; correct++) {
+            for (int answered = Math.max(1, correct); answered <= 25; answered++) {
+                double percentage = (double) correct / answered * 100;
+                assertFormatted(percentage, PromptNumberFormat::appendNoDecimals,
+                        String.format(Locale.ROOT, "%.0f", percentage));
+            }
+        }
+    }
+
+    @Test
+    void answerTimeIsUnknownWithoutPositiveTime() {
+        assertAnswerTime(null, "unknown");
+        assertAnswerTime(0L, "unknown");
+        assertAnswerTime(-5L, "unknown");
+    }
+
+    @Test
+    void answerTimeSwitchesToMinutesAtOneMinute() {
+        assertAnswerTime(1L, "0.0s");
+        assertAnswerTime(59_949L, "59.9s");
+        assertAnswerTime(60_000L, "1m 0s");
+        assertAnswerTime(125_900L, "2m 5s");
+    }
+
+    private static void assertFormatted(double value, BiConsumer<StringBuilder, Double> format, String expected) {
+        StringBuilder sb = new StringBuilder();
+        format.accept(sb, value);
+        assertThat(sb).as("formatted %s", value).hasToString(expected);
+    }
+
+    private static void assertAnswerTime(Long timeInMillis, String expected) {
+        StringBuilder sb = new StringBuilder();
+        PromptNumberFormat.appendAnswerTime(sb, timeInMillis);
+        assertThat(sb).hasToString(expected);
+    }
+}
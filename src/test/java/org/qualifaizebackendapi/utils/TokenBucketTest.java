@@ -0,0 +1,67 @@
+package org.qualifaizebackendapi.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    // Refills one token per minute, so nothing refills noticeably while a test runs
+    private static final long SLOW_REFILL = 1;
+
+    @Test
+    void startsFull() {
+        TokenBucket bucket = new TokenBucket(SLOW_REFILL, 10);
+
+        assertThat(bucket.tryAcquireUpTo(25)).isEqualTo(10);
+        assertThat(bucket.tryAcquireUpTo(1)).isZero();
+    }
+
+    @Test
+    void requestsAboveCapacityTakeTheFullCapacity() {
+        TokenBucket bucket = new TokenBucket(SLOW_REFILL, 10);
+
+        assertThat(bucket.acquirable(4)).isEqualTo(4);
+        assertThat(bucket.acquirable(50)).isEqualTo(10);
+        assertThat(bucket.tryAcquire(50)).isTrue();
+        assertThat(bucket.tryAcquire(1)).isFalse();
+    }
+
+    @Test
+    void chargeGoesIntoDebtAndDelaysAcquisitions() {
+        TokenBucket bucket = new TokenBucket(60, 10);
+
+        bucket.charge(15);
+
+        assertThat(bucket.tryAcquire(1)).isFalse();
+        // 6 tokens missing at one token per second
+        assertThat(bucket.nanosUntilAvailable(1)).isBetween(5_000_000_000L, 6_000_000_000L);
+    }
+
+    @Test
+    void refundIsCappedAtCapacity() {
+        TokenBucket bucket = new TokenBucket(SLOW_REFILL, 10);
+
+        assertThat(bucket.tryAcquire(4)).isTrue();
+        bucket.refund(100);
+
+        assertThat(bucket.tryAcquireUpTo(100)).isEqualTo(10);
+    }
+
+    @Test
+    void availableTokensNeedNoWait() {
+        TokenBucket bucket = new TokenBucket(SLOW_REFILL, 10);
+
+        assertThat(bucket.nanosUntilAvailable(10)).isZero();
+        assertThat(bucket.nanosUntilAvailable(1_000)).isZero();
+    }
+
+    @Test
+    void bucketWithoutRefillNeverRecovers() {
+        TokenBucket bucket = new TokenBucket(0, 10);
+
+        bucket.charge(10);
+
+        assertThat(bucket.nanosUntilAvailable(1)).isEqualTo(Long.MAX_VALUE);
+    }
+}